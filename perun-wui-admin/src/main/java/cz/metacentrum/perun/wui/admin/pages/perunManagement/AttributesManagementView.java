@@ -28,7 +28,9 @@ import org.gwtbootstrap3.client.ui.Button;
 import org.gwtbootstrap3.client.ui.ButtonToolBar;
 import org.gwtbootstrap3.client.ui.constants.ButtonType;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * PERUN ADMIN - ATTRIBUTES MANAGEMENT VIEW
@@ -70,6 +72,7 @@ public class AttributesManagementView extends ViewImpl implements AttributesMana
 
 		AttributeDefinitionColumnProvider provider = new AttributeDefinitionColumnProvider();
 		grid = new PerunDataGrid<AttributeDefinition>(provider);
+		grid.setVirtualScrolling(true);
 		remove = PerunButton.getButton(PerunButtonType.REMOVE, ButtonType.DANGER, "Remove selected Attributes");
 		initWidget(uiBinder.createAndBindUi(this));
 		anchorColumnMap = new HashMap<AnchorListItem, PerunColumnType>();
@@ -109,11 +112,15 @@ public class AttributesManagementView extends ViewImpl implements AttributesMana
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
-				grid.setList(JsUtils.<AttributeDefinition>jsoAsList(jso));
-				for (AttributeDefinition attr : grid.getList()) {
-					oracle.add(attr.getURN());
-					oracle.add(attr.getName());
+				List<AttributeDefinition> list = JsUtils.<AttributeDefinition>jsoAsListView(jso);
+				grid.setList(list);
+				List<String> suggestions = new ArrayList<>();
+				// grid might still be adding large list
+				for (AttributeDefinition attr : list) {
+					suggestions.add(attr.getURN());
+					suggestions.add(attr.getName());
 				}
+				oracle.addAll(suggestions);
 			}
 
 			@Override
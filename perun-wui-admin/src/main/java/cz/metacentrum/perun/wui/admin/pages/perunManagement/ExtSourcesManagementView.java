@@ -27,7 +27,9 @@ import org.gwtbootstrap3.client.ui.constants.IconType;
 import org.gwtbootstrap3.extras.notify.client.constants.NotifyType;
 import org.gwtbootstrap3.extras.notify.client.ui.Notify;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * PERUN ADMIN - EXT SOURCES MANAGEMENT VIEW
@@ -146,11 +148,15 @@ public class ExtSourcesManagementView extends ViewImpl implements ExtSourcesMana
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
-				grid.setList(JsUtils.<ExtSource>jsoAsList(jso));
-				for (ExtSource source : grid.getList()) {
-					oracle.add(source.getName());
-					oracle.add(source.getType().substring(40).toUpperCase());
+				List<ExtSource> list = JsUtils.<ExtSource>jsoAsListView(jso);
+				grid.setList(list);
+				List<String> suggestions = new ArrayList<>();
+				// grid might still be adding large list
+				for (ExtSource source : list) {
+					suggestions.add(source.getName());
+					suggestions.add(source.getType().substring(40).toUpperCase());
 				}
+				oracle.addAll(suggestions);
 			}
 
 			@Override
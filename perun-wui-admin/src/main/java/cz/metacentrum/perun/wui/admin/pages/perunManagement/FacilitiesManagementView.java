@@ -27,7 +27,9 @@ import org.gwtbootstrap3.client.ui.Button;
 import org.gwtbootstrap3.client.ui.ButtonToolBar;
 import org.gwtbootstrap3.client.ui.constants.ButtonType;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * PERUN ADMIN - FACILITIES MANAGEMENT VIEW
@@ -106,10 +108,14 @@ public class FacilitiesManagementView extends ViewImpl implements FacilitiesMana
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
-				grid.setList(JsUtils.<Facility>jsoAsList(jso));
-				for (Facility fac : grid.getList()) {
-					oracle.add(fac.getName());
+				List<Facility> list = JsUtils.<Facility>jsoAsListView(jso);
+				grid.setList(list);
+				List<String> suggestions = new ArrayList<>();
+				// grid might still be adding large list
+				for (Facility fac : list) {
+					suggestions.add(fac.getName());
 				}
+				oracle.addAll(suggestions);
 			}
 
 			@Override
@@ -28,7 +28,9 @@ import org.gwtbootstrap3.client.ui.constants.ButtonType;
 import org.gwtbootstrap3.extras.notify.client.constants.NotifyType;
 import org.gwtbootstrap3.extras.notify.client.ui.Notify;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * PERUN ADMIN - OWNERS MANAGEMENT VIEW
@@ -153,11 +155,15 @@ public class OwnersManagementView extends ViewWithUiHandlers<PerunManagementUiHa
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
-				grid.setList(JsUtils.<Owner>jsoAsList(jso));
-				for (Owner owner : grid.getList()) {
-					oracle.add(owner.getName());
-					oracle.add(owner.getType());
+				List<Owner> list = JsUtils.<Owner>jsoAsListView(jso);
+				grid.setList(list);
+				List<String> suggestions = new ArrayList<>();
+				// grid might still be adding large list
+				for (Owner owner : list) {
+					suggestions.add(owner.getName());
+					suggestions.add(owner.getType());
 				}
+				oracle.addAll(suggestions);
 			}
 
 			@Override
@@ -28,7 +28,9 @@ import org.gwtbootstrap3.client.ui.constants.ButtonType;
 import org.gwtbootstrap3.extras.notify.client.constants.NotifyType;
 import org.gwtbootstrap3.extras.notify.client.ui.Notify;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * PERUN ADMIN - SERVICES MANAGEMENT VIEW
@@ -128,11 +130,15 @@ public class ServicesManagementView extends ViewImpl implements ServicesManageme
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
-				grid.setList(JsUtils.<Service>jsoAsList(jso));
+				List<Service> list = JsUtils.<Service>jsoAsListView(jso);
+				grid.setList(list);
 				// fill oracle
-				for (Service s : grid.getList()) {
-					oracle.add(s.getName());
+				List<String> suggestions = new ArrayList<>();
+				// grid might still be adding large list
+				for (Service s : list) {
+					suggestions.add(s.getName());
 				}
+				oracle.addAll(suggestions);
 			}
 
 			@Override
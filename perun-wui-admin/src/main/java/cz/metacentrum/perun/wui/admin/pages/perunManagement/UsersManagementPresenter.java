@@ -19,6 +19,12 @@ import cz.metacentrum.perun.wui.pages.FocusableView;
 public class UsersManagementPresenter extends Presenter<UsersManagementPresenter.MyView, UsersManagementPresenter.MyProxy> {
 
 	public interface MyView extends View {
+
+		/**
+		 * Cancel pending searches of users.
+		 */
+		void cancelRequests();
+
 	}
 
 	@NameToken({PlaceTokens.USERS, PlaceTokens.PERUN_USERS})
@@ -41,4 +47,10 @@ public class UsersManagementPresenter extends Presenter<UsersManagementPresenter
 
 	}
 
+	@Override
+	protected void onHide() {
+		super.onHide();
+		getView().cancelRequests();
+	}
+
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.client.utils.UiUtils;
 import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonRequestScope;
 import cz.metacentrum.perun.wui.json.managers.UsersManager;
 import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.model.beans.RichUser;
@@ -34,6 +35,9 @@ public class UsersManagementView extends ViewImpl implements UsersManagementPres
 
 	private UnaccentMultiWordSuggestOracle oracle = new UnaccentMultiWordSuggestOracle();
 
+	// search and listing of users replace each other's results
+	private JsonRequestScope requestScope = new JsonRequestScope();
+
 	@UiField(provided = true)
 	PerunDataGrid<RichUser> grid;
 
@@ -53,6 +57,7 @@ public class UsersManagementView extends ViewImpl implements UsersManagementPres
 	UsersManagementView(final UsersManagementViewUiBinder uiBinder) {
 
 		grid = new PerunDataGrid<RichUser>(new RichUserColumnProvider());
+		grid.setVirtualScrolling(true);
 		initWidget(uiBinder.createAndBindUi(this));
 
 		UiUtils.bindSearchBox(textBox, searchButton);
@@ -70,14 +75,14 @@ public class UsersManagementView extends ViewImpl implements UsersManagementPres
 	@UiHandler(value = "searchButton")
 	public void search(ClickEvent event) {
 
-		UsersManager.findRichUsersWithAttributes(textBox.getText(), PerunSession.getInstance().getConfiguration().getListOfStrings("getAttributesListForUserTables"), new JsonEvents() {
+		UsersManager.findRichUsersWithAttributes(textBox.getText(), PerunSession.getInstance().getConfiguration().getListOfStrings("getAttributesListForUserTables"), requestScope.latest("users", new JsonEvents() {
 
 			JsonEvents loadAgain = this;
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
 				searchButton.setProcessing(false);
-				grid.setList(JsUtils.<RichUser>jsoAsList(jso));
+				grid.setList(JsUtils.<RichUser>jsoAsListView(jso));
 			}
 
 			@Override
@@ -85,7 +90,7 @@ public class UsersManagementView extends ViewImpl implements UsersManagementPres
 				grid.getLoaderWidget().onError(error, new ClickHandler() {
 					@Override
 					public void onClick(ClickEvent event) {
-						UsersManager.findRichUsersWithAttributes(textBox.getText(), PerunSession.getInstance().getConfiguration().getListOfStrings("getAttributesListForUserTables"), loadAgain);
+						UsersManager.findRichUsersWithAttributes(textBox.getText(), PerunSession.getInstance().getConfiguration().getListOfStrings("getAttributesListForUserTables"), requestScope.latest("users", loadAgain));
 					}
 				});
 				searchButton.setProcessing(false);
@@ -95,22 +100,23 @@ public class UsersManagementView extends ViewImpl implements UsersManagementPres
 			public void onLoadingStart() {
 				grid.clearTable();
 				grid.getLoaderWidget().onLoading();
+				listButton.setProcessing(false);
 				searchButton.setProcessing(true);
 			}
-		});
+		}));
 	}
 
 	@UiHandler(value = "listButton")
 	public void onClick(ClickEvent event) {
 
-		UsersManager.getRichUsersWithoutVoAssigned(new JsonEvents() {
+		UsersManager.getRichUsersWithoutVoAssigned(requestScope.latest("users", new JsonEvents() {
 
 			JsonEvents loadAgain = this;
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
 				listButton.setProcessing(false);
-				grid.setList(JsUtils.<RichUser>jsoAsList(jso));
+				grid.setList(JsUtils.<RichUser>jsoAsListView(jso));
 			}
 
 			@Override
@@ -119,18 +125,19 @@ public class UsersManagementView extends ViewImpl implements UsersManagementPres
 				grid.getLoaderWidget().onError(error, new ClickHandler() {
 					@Override
 					public void onClick(ClickEvent event) {
-						UsersManager.getRichUsersWithoutVoAssigned(loadAgain);
+						UsersManager.getRichUsersWithoutVoAssigned(requestScope.latest("users", loadAgain));
 					}
 				});
 			}
 
 			@Override
 			public void onLoadingStart() {
+				searchButton.setProcessing(false);
 				listButton.setProcessing(true);
 				grid.clearTable();
 				grid.getLoaderWidget().onLoading();
 			}
-		});
+		}));
 	}
 
 	@Override
@@ -138,6 +145,13 @@ public class UsersManagementView extends ViewImpl implements UsersManagementPres
 		textBox.setFocus(true);
 	}
 
+	@Override
+	public void cancelRequests() {
+		requestScope.cancelAll();
+		searchButton.setProcessing(false);
+		listButton.setProcessing(false);
+	}
+
 
 
 }
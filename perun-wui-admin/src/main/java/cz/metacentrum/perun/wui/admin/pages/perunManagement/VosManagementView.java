@@ -31,7 +31,9 @@ import org.gwtbootstrap3.extras.notify.client.constants.NotifyType;
 import org.gwtbootstrap3.extras.notify.client.ui.Notify;
 import org.gwtbootstrap3.extras.notify.client.ui.NotifySettings;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * PERUN ADMIN - VOS MANAGEMENT VIEW
@@ -162,11 +164,15 @@ public class VosManagementView extends ViewImpl implements VosManagementPresente
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
-				grid.setList(JsUtils.<Vo>jsoAsList(jso));
-				for (Vo vo : grid.getList()) {
-					oracle.add(vo.getName());
-					oracle.add(vo.getShortName());
+				List<Vo> list = JsUtils.<Vo>jsoAsListView(jso);
+				grid.setList(list);
+				List<String> suggestions = new ArrayList<>();
+				// grid might still be adding large list
+				for (Vo vo : list) {
+					suggestions.add(vo.getName());
+					suggestions.add(vo.getShortName());
 				}
+				oracle.addAll(suggestions);
 			}
 
 			@Override
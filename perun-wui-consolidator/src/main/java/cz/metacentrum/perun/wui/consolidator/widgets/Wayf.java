@@ -17,7 +17,7 @@ import org.gwtbootstrap3.client.ui.constants.ColumnOffset;
 import org.gwtbootstrap3.client.ui.constants.ColumnSize;
 import org.gwtbootstrap3.client.ui.html.Span;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Widget representing WAYF (Where are you from) also called as "Discovery service".
@@ -49,7 +49,7 @@ public class Wayf extends Composite {
 
 	public void buildWayfGroups() {
 
-		ArrayList<WayfGroup> wayfGroups = PerunConfiguration.getWayfGroups();
+		List<WayfGroup> wayfGroups = PerunConfiguration.getWayfGroups();
 		Row row = new Row();
 		mainContent.add(row);
 
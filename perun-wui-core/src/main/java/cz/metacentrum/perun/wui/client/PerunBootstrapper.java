@@ -2,6 +2,7 @@ package cz.metacentrum.perun.wui.client;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.user.client.ui.RootPanel;
@@ -12,6 +13,7 @@ import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.resources.PerunTranslation;
 import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonScheduler;
 import cz.metacentrum.perun.wui.json.managers.AuthzManager;
 import cz.metacentrum.perun.wui.json.managers.UtilsManager;
 import cz.metacentrum.perun.wui.model.BasicOverlayObject;
@@ -32,6 +34,13 @@ import cz.metacentrum.perun.wui.widgets.PerunLoader;
 public class PerunBootstrapper implements Bootstrapper {
 
 	private final PlaceManager placeManager;
+	private final PerunTranslation translation = GWT.create(PerunTranslation.class);
+
+	private PerunLoader loader;
+	private PerunPrincipal principal;
+	private BasicOverlayObject configuration;
+	private boolean failed = false;
+	private boolean revealed = false;
 
 	@Inject
 	public PerunBootstrapper(PlaceManager placeManager) {
@@ -41,17 +50,40 @@ public class PerunBootstrapper implements Bootstrapper {
 	@Override
 	public void onBootstrap() {
 
-		final PerunTranslation translation = GWT.create(PerunTranslation.class);
-
-		final PerunLoader loader = new PerunLoader();
+		loader = new PerunLoader();
 		RootPanel.get("app-content").clear();
 		RootPanel.get("app-content").add(loader);
 
 		PerunSession.setPlaceManager(placeManager);
 
-		AuthzManager.getPerunPrincipal(new JsonEvents() {
+		PerunSession.setPerunLoading(true);
+		PerunSession.setPerunLoaded(false);
+		loader.onLoading(translation.loadingUser());
 
-			final JsonEvents retry = this;
+		// start with configuration from previous visit and revalidate it in background
+		BasicOverlayObject stored = PerunConfiguration.loadStoredPerunConfig();
+		if (stored != null) {
+			PerunSession.getInstance().setConfiguration(stored);
+			configuration = stored;
+		}
+
+		// both calls are independent, so they are made concurrently
+		JsonScheduler.withPriority(JsonScheduler.Priority.BOOTSTRAP, new Scheduler.ScheduledCommand() {
+			@Override
+			public void execute() {
+				loadPrincipal();
+				loadConfiguration();
+			}
+		});
+
+	}
+
+	/**
+	 * Load PerunPrincipal of current user and store it in session.
+	 */
+	private void loadPrincipal() {
+
+		AuthzManager.getPerunPrincipal(new JsonEvents() {
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
@@ -64,70 +96,111 @@ public class PerunBootstrapper implements Bootstrapper {
 				// TODO - later load this setting from local storage too
 				PerunSession.getInstance().setExtendedInfoVisible(PerunSession.getInstance().isPerunAdmin());
 
-				UtilsManager.getGuiConfiguration(new JsonEvents() {
+				principal = pp;
+				onLoaded();
+
+			}
+
+			@Override
+			public void onError(PerunException error) {
+				onLoadingError(error);
+			}
 
-					final JsonEvents retry = this;
+			@Override
+			public void onLoadingStart() {
+			}
+		});
 
-					@Override
-					public void onFinished(JavaScriptObject jso) {
+	}
 
-						// store configuration OLD WAY
-						PerunSession.getInstance().setConfiguration((BasicOverlayObject) jso.cast());
-						// FIXME - use only NEW WAY
-						PerunConfiguration.setPerunConfig((BasicOverlayObject) jso.cast());
+	/**
+	 * Load GUI configuration of Perun and store it in config backend.
+	 */
+	private void loadConfiguration() {
 
-						PerunSession.setPerunLoading(false);
-						PerunSession.setPerunLoaded(true);
+		UtilsManager.getGuiConfiguration(new JsonEvents() {
 
-						// OPEN PAGE BASED ON URL
-						placeManager.revealCurrentPlace();
-						//History.fireCurrentHistoryState();
+			@Override
+			public void onFinished(JavaScriptObject jso) {
 
-					}
+				// stored configuration is still valid
+				if (!PerunConfiguration.storePerunConfig((BasicOverlayObject) jso.cast()) && configuration != null) return;
 
-					@Override
-					public void onError(PerunException error) {
-						PerunSession.setPerunLoading(false);
-						PerunSession.setPerunLoaded(false);
-						loader.onError(error, new ClickHandler() {
-							@Override
-							public void onClick(ClickEvent event) {
-								AuthzManager.getPerunPrincipal(retry);
-							}
-						});
-					}
+				// store configuration OLD WAY
+				PerunSession.getInstance().setConfiguration((BasicOverlayObject) jso.cast());
+				// FIXME - use only NEW WAY
+				// if page is already revealed, its presenters re-apply changed configuration
+				PerunConfiguration.setPerunConfig((BasicOverlayObject) jso.cast());
 
-					@Override
-					public void onLoadingStart() {
-						loader.onLoading(translation.preparingInterface());
-					}
-				});
+				configuration = jso.cast();
+				onLoaded();
 
 			}
 
 			@Override
 			public void onError(PerunException error) {
-				PerunSession.setPerunLoading(false);
-				PerunSession.setPerunLoaded(false);
-				loader.onError(error, new ClickHandler() {
-					@Override
-					public void onClick(ClickEvent event) {
-						AuthzManager.getPerunPrincipal(retry);
-					}
-				});
+				// keep using stored configuration
+				if (configuration != null) return;
+				onLoadingError(error);
 			}
 
 			@Override
 			public void onLoadingStart() {
+			}
+		});
 
-				loader.onLoading(translation.loadingUser());
+	}
+
+	/**
+	 * Reveal requested page once both user and configuration are loaded.
+	 */
+	private void onLoaded() {
+
+		// configuration was revalidated after page was revealed
+		if (revealed) return;
+
+		if (principal == null || configuration == null) {
+			if (principal != null && !failed) loader.onLoading(translation.preparingInterface());
+			return;
+		}
 
+		revealed = true;
+		PerunSession.setPerunLoading(false);
+		PerunSession.setPerunLoaded(true);
+
+		// OPEN PAGE BASED ON URL
+		placeManager.revealCurrentPlace();
+
+		// load code of other pages once browser is idle
+		PerunPrefetcher.prefetchOnIdle();
+		//History.fireCurrentHistoryState();
+
+	}
+
+	/**
+	 * Show error and allow user to retry loading of missing data.
+	 *
+	 * @param error error returned from RPC
+	 */
+	private void onLoadingError(PerunException error) {
+
+		// error of the other concurrent call is already displayed
+		if (failed) return;
+		failed = true;
+
+		PerunSession.setPerunLoading(false);
+		PerunSession.setPerunLoaded(false);
+		loader.onError(error, new ClickHandler() {
+			@Override
+			public void onClick(ClickEvent event) {
+				failed = false;
 				PerunSession.setPerunLoading(true);
-				PerunSession.setPerunLoaded(false);
+				loader.onLoading(translation.loadingUser());
+				if (principal == null) loadPrincipal();
+				if (configuration == null) loadConfiguration();
 			}
 		});
 
-
 	}
 
-}
\ No newline at end of file
+}
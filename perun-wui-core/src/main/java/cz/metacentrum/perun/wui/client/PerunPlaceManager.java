@@ -1,5 +1,6 @@
 package cz.metacentrum.perun.wui.client;
 
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.core.shared.GWT;
 import com.google.gwt.place.shared.PlaceHistoryHandler;
 import com.google.gwt.user.client.Window;
@@ -8,9 +9,15 @@ import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.DefaultPlace;
 import com.gwtplatform.mvp.client.proxy.PlaceManagerImpl;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
+import com.gwtplatform.mvp.shared.proxy.TokenFormatException;
 import com.gwtplatform.mvp.shared.proxy.TokenFormatter;
+import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.resources.PlaceTokens;
+import cz.metacentrum.perun.wui.json.JsonPrefetch;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  *  Generic PlaceManager for Perun WUI apps, which ensure, that access without valid
@@ -18,16 +25,39 @@ import cz.metacentrum.perun.wui.client.resources.PlaceTokens;
  *
  *  It can be extended if your app requires specific behaviour.
  *
+ *  Apps can register {@link PlacePrefetcher} for their places, so data of a page are loaded
+ *  before user opens it, e.g. when menu item is hovered. See {@link #prefetch(PlaceRequest)}.
+ *
  * @author Pavel Zlámal <zlamal@cesnet.cz>
  */
 public class PerunPlaceManager extends PlaceManagerImpl {
 
 	private final PlaceRequest defaultPlaceRequest;
+	private final TokenFormatter tokenFormatter;
+	private final Map<String, PlacePrefetcher> prefetchers = new HashMap<>();
+	// time of last prefetch by history token of place
+	private final Map<String, Long> prefetched = new HashMap<>();
+
+	/**
+	 * Loads data needed by a page. Implementation must make exactly the same
+	 * read-only calls to Perun's API as the page does, when it's revealed.
+	 */
+	public interface PlacePrefetcher {
+
+		/**
+		 * Make calls to Perun's API needed by a page.
+		 *
+		 * @param request place request of a page
+		 */
+		void prefetch(PlaceRequest request);
+
+	}
 
 	@Inject
 	public PerunPlaceManager(EventBus eventBus, TokenFormatter tokenFormatter, @DefaultPlace String defaultPlaceNameToken) {
 		super(eventBus, tokenFormatter, (PlaceHistoryHandler.Historian) GWT.create(PlaceHistoryHandler.Historian.class));
 		this.defaultPlaceRequest = new PlaceRequest.Builder().nameToken(defaultPlaceNameToken).build();
+		this.tokenFormatter = tokenFormatter;
 	}
 
 	@Override
@@ -45,6 +75,69 @@ public class PerunPlaceManager extends PlaceManagerImpl {
 		revealPlace(new PlaceRequest.Builder().nameToken(PlaceTokens.UNAUTHORIZED).build(), false);
 	}
 
+	/**
+	 * Register prefetcher of data for a place. Prefetcher must not be part of code
+	 * split presenter, since it's used before its code is loaded.
+	 *
+	 * @param nameToken name token of a place
+	 * @param prefetcher prefetcher of data
+	 */
+	public void registerPrefetcher(String nameToken, PlacePrefetcher prefetcher) {
+		prefetchers.put(nameToken, prefetcher);
+	}
+
+	/**
+	 * Load data of a place, so page is displayed without waiting for Perun's API once revealed.
+	 * Does nothing, if place has no prefetcher, is current place or was prefetched recently.
+	 *
+	 * @see JsonPrefetch
+	 *
+	 * @param request place request of a page
+	 */
+	public void prefetch(final PlaceRequest request) {
+
+		if (request == null || !PerunSession.isPerunLoaded() || !JsonPrefetch.isEnabled()) return;
+
+		final PlacePrefetcher prefetcher = prefetchers.get(request.getNameToken());
+		if (prefetcher == null) return;
+
+		// page already has its data
+		if (getCurrentPlaceRequest() != null && request.hasSameNameToken(getCurrentPlaceRequest())) return;
+
+		// warmed responses are still valid
+		String token = buildHistoryToken(request);
+		Long last = prefetched.get(token);
+		long now = System.currentTimeMillis();
+		if (last != null && now - last < PerunConfiguration.getRpcPrefetchTtl() * 1000L) return;
+		prefetched.put(token, now);
+
+		JsonPrefetch.run(new Scheduler.ScheduledCommand() {
+			@Override
+			public void execute() {
+				prefetcher.prefetch(request);
+			}
+		});
+
+	}
+
+	/**
+	 * Load data of a place specified by history token, e.g. target of menu item.
+	 *
+	 * @see #prefetch(PlaceRequest)
+	 *
+	 * @param historyToken history token of a place
+	 */
+	public void prefetch(String historyToken) {
+
+		if (historyToken == null || historyToken.isEmpty()) return;
+		try {
+			prefetch(tokenFormatter.toPlaceRequest(historyToken));
+		} catch (TokenFormatException ex) {
+			// invalid place, nothing to load
+		}
+
+	}
+
 	@Override
 	protected void doRevealPlace(PlaceRequest request, boolean updateBrowserUrl) {
 
@@ -52,6 +145,8 @@ public class PerunPlaceManager extends PlaceManagerImpl {
 			// User logged out previously. Use force reload of current URL to reload whole app.
 			Window.Location.reload();
 		} else {
+			// data of revealed page are loaded now, they can be prefetched again once used
+			prefetched.remove(buildHistoryToken(request));
 			super.doRevealPlace(request, updateBrowserUrl);
 		}
 
@@ -0,0 +1,114 @@
+package cz.metacentrum.perun.wui.client;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.web.bindery.event.shared.EventBus;
+import com.gwtplatform.mvp.client.Presenter;
+import com.gwtplatform.mvp.client.proxy.NotifyingAsyncCallback;
+import com.gwtplatform.mvp.client.proxy.Proxy;
+
+import java.util.LinkedList;
+
+/**
+ * Loads code of pages split by @ProxyCodeSplit when browser is idle, so navigation
+ * to them doesn't wait for the download. Pages are loaded one by one, once application
+ * is loaded by {@link PerunBootstrapper}.
+ * <p/>
+ * Apps register their pages in the constructor of their main presenter. Since main presenter
+ * is created only when the first page is revealed into it, pages registered after loading
+ * was started are loaded too.
+ */
+public class PerunPrefetcher {
+
+	private static final LinkedList<Proxy<?>> proxies = new LinkedList<>();
+	private static EventBus eventBus;
+	private static boolean started = false;
+	// loading of a page or idle callback is pending
+	private static boolean running = false;
+
+	private PerunPrefetcher() {
+	}
+
+	/**
+	 * Register pages to load when browser is idle. Pages are loaded in passed order.
+	 * If loading was already started, pages are loaded in next idle period.
+	 *
+	 * @param bus event bus of the app
+	 * @param pages proxies of code split pages
+	 */
+	public static void register(EventBus bus, Proxy<?>... pages) {
+		eventBus = bus;
+		for (Proxy<?> page : pages) {
+			proxies.add(page);
+		}
+		if (started && !running) next();
+	}
+
+	/**
+	 * Start loading of registered pages when browser is idle.
+	 * Does nothing, if loading was already started.
+	 */
+	public static void prefetchOnIdle() {
+
+		if (started) return;
+		started = true;
+		if (!running) next();
+
+	}
+
+	/**
+	 * Load next registered page and continue with following one in the next idle period.
+	 */
+	private static void prefetchNext() {
+
+		if (proxies.isEmpty()) {
+			// wait for pages registered later
+			running = false;
+			return;
+		}
+
+		proxies.removeFirst().getRawPresenter(new NotifyingAsyncCallback<Presenter<?, ?>>(eventBus) {
+			@Override
+			protected void success(Presenter<?, ?> result) {
+				next();
+			}
+
+			@Override
+			protected void failure(Throwable caught) {
+				// page will be loaded again on navigation
+				next();
+			}
+		});
+
+	}
+
+	/**
+	 * Load next registered page in the next idle period.
+	 */
+	private static void next() {
+		running = true;
+		onIdle(new Scheduler.ScheduledCommand() {
+			@Override
+			public void execute() {
+				prefetchNext();
+			}
+		});
+	}
+
+	/**
+	 * Execute command when browser is idle. Browsers without
+	 * requestIdleCallback() execute it after a short delay.
+	 *
+	 * @param command command to execute
+	 */
+	private static native void onIdle(Scheduler.ScheduledCommand command) /*-{
+		var callback = $entry(function() {
+			command.@com.google.gwt.core.client.Scheduler.ScheduledCommand::execute()();
+		});
+		if ($wnd.requestIdleCallback) {
+			$wnd.requestIdleCallback(callback, {"timeout": 10000});
+		} else {
+			$wnd.setTimeout(callback, 2000);
+		}
+	}-*/;
+
+}
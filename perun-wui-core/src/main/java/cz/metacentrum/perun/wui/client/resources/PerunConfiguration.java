@@ -3,12 +3,16 @@ package cz.metacentrum.perun.wui.client.resources;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
 import com.google.gwt.i18n.client.LocaleInfo;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONValue;
+import com.google.gwt.storage.client.Storage;
 import com.google.gwt.user.client.Window;
 import cz.metacentrum.perun.wui.client.resources.beans.Locale;
 import cz.metacentrum.perun.wui.client.resources.beans.PersonalAttribute;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.client.utils.Utils;
 import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonUtils;
 import cz.metacentrum.perun.wui.model.BasicOverlayObject;
 import cz.metacentrum.perun.wui.model.common.WayfGroup;
 import org.gwtbootstrap3.client.ui.Image;
@@ -40,8 +44,21 @@ public final class PerunConfiguration {
 	// storage for global configuration
 	private static BasicOverlayObject perunConfig;
 
+	// merged local and global configuration, built once when configuration is set
+	private static Map<String, String> snapshot;
+
+	// parsed values of list/map properties, cleared when configuration is set
+	private static final Map<String, Object> parsedValues = new HashMap<>();
+
+	// handlers notified when configuration is replaced
+	private static final List<ChangeHandler> changeHandlers = new ArrayList<>();
+
+	// prefix of local storage keys, GUI version is part of key so each release loads its own config
+	private static final String STORAGE_KEY = "perun.guiConfiguration.";
+
 	/**
 	 * Set data loaded from Perun RPC to config backend for usage by WUI apps.
+	 * All registered {@link ChangeHandler}s are notified.
 	 * @see cz.metacentrum.perun.wui.json.managers.UtilsManager#getGuiConfiguration(JsonEvents)
 	 * @see cz.metacentrum.perun.wui.client.PerunBootstrapper
 	 *
@@ -50,8 +67,178 @@ public final class PerunConfiguration {
 	public static void setPerunConfig(BasicOverlayObject perunConfig) {
 		PerunConfiguration config = new PerunConfiguration();
 		config.setGlobalConfig(perunConfig);
+		snapshot = null;
+		parsedValues.clear();
+		for (ChangeHandler handler : changeHandlers) {
+			handler.onConfigurationChanged();
+		}
+	}
+
+	/**
+	 * Handler notified when configuration is replaced, e.g. when configuration
+	 * revalidated in background differs from the one app has started with.
+	 */
+	public interface ChangeHandler {
+
+		/**
+		 * Called after new configuration was set.
+		 */
+		void onConfigurationChanged();
+
+	}
+
+	/**
+	 * Register handler called each time configuration is set.
+	 *
+	 * @param handler handler to register
+	 */
+	public static void addChangeHandler(ChangeHandler handler) {
+		changeHandlers.add(handler);
+	}
+
+	/**
+	 * Return merged local and global configuration. Local values take priority.
+	 * Values are read from JS objects only once per configuration.
+	 *
+	 * @return map of property names and their values
+	 */
+	private static Map<String, String> getSnapshot() {
+
+		if (snapshot == null) {
+			Map<String, String> values = new HashMap<>();
+			fillSnapshot(values, perunConfig);
+			fillSnapshot(values, getLocalConfig());
+			snapshot = values;
+		}
+		return snapshot;
+
+	}
+
+	/**
+	 * Put all properties of configuration object into the map as strings.
+	 * Empty or non-primitive values are stored as null, so they still override less prior config.
+	 *
+	 * @param values map to fill
+	 * @param config configuration object
+	 */
+	private static void fillSnapshot(Map<String, String> values, BasicOverlayObject config) {
+
+		if (config == null) return;
+
+		JSONObject object = new JSONObject(config);
+		for (String key : object.keySet()) {
+			JSONValue value = object.get(key);
+			String stringValue = null;
+			if (value.isString() != null) {
+				stringValue = value.isString().stringValue();
+			} else if (value.isNumber() != null || value.isBoolean() != null) {
+				stringValue = value.toString();
+			}
+			values.put(key, (stringValue == null || stringValue.isEmpty()) ? null : stringValue);
+		}
+
+	}
+
+	/**
+	 * Return list value of property split by delimiter. List is parsed only once per configuration.
+	 *
+	 * @param name property name
+	 * @param delimiter delimiter of values
+	 * @return unmodifiable list of values, empty if property is not set
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<String> getConfigPropertyList(String name, String delimiter) {
+
+		String key = name + delimiter;
+		List<String> value = (List<String>) parsedValues.get(key);
+		if (value == null) {
+			value = Collections.unmodifiableList(Utils.stringToList(getConfigPropertyString(name), delimiter));
+			parsedValues.put(key, value);
+		}
+		return value;
+
+	}
+
+	/**
+	 * Load configuration stored in browser local storage by previous visit
+	 * and set it to config backend, so app can start without waiting for Perun RPC.
+	 * Damaged stored value is removed, so configuration is loaded from Perun RPC.
+	 * @see #storePerunConfig(BasicOverlayObject)
+	 *
+	 * @return Stored configuration object or null if not present or not valid.
+	 */
+	public static BasicOverlayObject loadStoredPerunConfig() {
+
+		Storage storage = Storage.getLocalStorageIfSupported();
+		if (storage == null) return null;
+
+		String value = storage.getItem(getStorageKey());
+		if (value == null || value.isEmpty()) return null;
+
+		BasicOverlayObject config = parseStoredConfig(value);
+		if (config == null) {
+			storage.removeItem(getStorageKey());
+			return null;
+		}
+		setPerunConfig(config);
+		return config;
+
 	}
 
+	/**
+	 * Store configuration loaded from Perun RPC in browser local storage
+	 * for the next visit.
+	 * @see #loadStoredPerunConfig()
+	 *
+	 * @param perunConfig Configuration object loaded from RPC.
+	 * @return TRUE if configuration differs from the stored one, FALSE otherwise.
+	 */
+	public static boolean storePerunConfig(BasicOverlayObject perunConfig) {
+
+		String value = new JSONObject(perunConfig).toString();
+
+		Storage storage = Storage.getLocalStorageIfSupported();
+		if (storage == null) return true;
+
+		if (value.equals(storage.getItem(getStorageKey()))) return false;
+
+		try {
+			storage.setItem(getStorageKey(), value);
+		} catch (Exception ex) {
+			// storage is full or disabled, config is loaded from RPC next time
+		}
+		return true;
+
+	}
+
+	/**
+	 * Returns key of configuration in local storage.
+	 *
+	 * @return key in local storage
+	 */
+	private static String getStorageKey() {
+		return STORAGE_KEY + PerunSession.getInstance().getRpcServer() + "." + PerunWebConstants.INSTANCE.guiVersion();
+	}
+
+	/**
+	 * Parse stored configuration. Unlike {@link JsonUtils#parseJson(String)} damaged
+	 * or non-object value is not wrapped, but rejected.
+	 *
+	 * @param value stored configuration
+	 * @return configuration object or null if value is not a JSON object
+	 */
+	private static native BasicOverlayObject parseStoredConfig(String value) /*-{
+		try {
+			var config = JSON.parse(value);
+			if (config !== null && typeof config === 'object' && !Array.isArray(config)) {
+				return config;
+			}
+		} catch (err) {
+			// damaged value
+		}
+		return null;
+	}-*/;
+
 	/**
 	 * Returns local config object if present.
 	 *
@@ -71,13 +258,7 @@ public final class PerunConfiguration {
 
 		if (name == null || name.isEmpty()) return null;
 
-		// stored locally
-		if (getLocalConfig() != null && JsUtils.hasOwnProperty(getLocalConfig(), name)) {
-			return JsUtils.getNativePropertyString(getLocalConfig(), name);
-		}
-
-		// stored globally
-		return (perunConfig != null) ? JsUtils.getNativePropertyString(perunConfig, name) : null;
+		return getSnapshot().get(name);
 
 	}
 
@@ -91,19 +272,8 @@ public final class PerunConfiguration {
 
 		if (name == null || name.isEmpty()) return 0;
 
-		// stored locally
-		if (getLocalConfig() != null && JsUtils.hasOwnProperty(getLocalConfig(), name)) {
-			String value = JsUtils.getNativePropertyString(getLocalConfig(), name);
-			return (value != null) ? Integer.parseInt(value) : 0;
-		}
-
-		// stored globally
-		if (perunConfig != null) {
-			String value = JsUtils.getNativePropertyString(perunConfig, name);
-			return (value != null) ? Integer.parseInt(value) : 0;
-		}
-
-		return 0;
+		String value = getConfigPropertyString(name);
+		return (value != null) ? Integer.parseInt(value) : 0;
 
 	}
 
@@ -117,19 +287,8 @@ public final class PerunConfiguration {
 
 		if (name == null || name.isEmpty()) return false;
 
-		// stored locally
-		if (getLocalConfig() != null && JsUtils.hasOwnProperty(getLocalConfig(), name)) {
-			String value = JsUtils.getNativePropertyString(getLocalConfig(), name);
-			return (value != null) && Boolean.parseBoolean(value);
-		}
-
-		// stored globally
-		if (perunConfig != null) {
-			String value = JsUtils.getNativePropertyString(perunConfig, name);
-			return (value != null) && Boolean.parseBoolean(value);
-		}
-
-		return false;
+		String value = getConfigPropertyString(name);
+		return (value != null) && Boolean.parseBoolean(value);
 
 	}
 
@@ -176,7 +335,7 @@ public final class PerunConfiguration {
 
 		ArrayList<String> languages = new ArrayList<>();
 		languages.add("en");
-		languages.addAll(Utils.stringToList(getConfigPropertyString("language.supported"),","));
+		languages.addAll(getConfigPropertyList("language.supported", ","));
 		Collections.sort(languages);
 		return new HashSet<String>(languages);
 
@@ -406,8 +565,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return list of VOs short names
 	 */
-	public static ArrayList<String> getVosToSkipReCaptchaFor() {
-		return Utils.stringToList(getConfigPropertyString("reCaptcha.skipVos"),",");
+	public static List<String> getVosToSkipReCaptchaFor() {
+		return getConfigPropertyList("reCaptcha.skipVos", ",");
 	}
 
 	/**
@@ -415,8 +574,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return List of attribute names
 	 */
-	public static ArrayList<String> getAttributesForMemberTable() {
-		return Utils.stringToList(getConfigPropertyString("attributesForMemberTables"),",");
+	public static List<String> getAttributesForMemberTable() {
+		return getConfigPropertyList("attributesForMemberTables", ",");
 	}
 
 	/**
@@ -424,8 +583,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return List of attribute names
 	 */
-	public static ArrayList<String> getAttributesForUserTable() {
-		return Utils.stringToList(getConfigPropertyString("attributesForUserTables"),",");
+	public static List<String> getAttributesForUserTable() {
+		return getConfigPropertyList("attributesForUserTables", ",");
 	}
 
 	/**
@@ -435,8 +594,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return list of supported namespaces
 	 */
-	public static ArrayList<String> getPreferredUnixGroupNamesNamespaces() {
-		return Utils.stringToList(getConfigPropertyString("namespacesForPreferredGroupNames"),",");
+	public static List<String> getPreferredUnixGroupNamesNamespaces() {
+		return getConfigPropertyList("namespacesForPreferredGroupNames", ",");
 	}
 
 	/**
@@ -444,9 +603,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return list of supported namespaces names
 	 */
-	public static ArrayList<String> getSupportedPasswordNamespaces() {
-		String value = getConfigPropertyString("supportedPasswordNamespaces");
-		return Utils.stringToList(value, ",");
+	public static List<String> getSupportedPasswordNamespaces() {
+		return getConfigPropertyList("supportedPasswordNamespaces", ",");
 	}
 
 	/**
@@ -471,6 +629,97 @@ public final class PerunConfiguration {
 		return getConfigPropertyBoolean("isDevel");
 	}
 
+	/**
+	 * Returns time to live of cached responses from read-only calls to specified manager of Perun's API.
+	 * Value is taken from "cache.ttl.[manager]" property, if not present from "cache.ttl".
+	 * Zero means that responses of manager are not cached. Values, which are not numbers, are ignored.
+	 *
+	 * @see cz.metacentrum.perun.wui.json.JsonCache
+	 *
+	 * @param manager name of manager, e.g. "usersManager"
+	 * @return time to live in seconds
+	 */
+	public static int getRpcCacheTtl(String manager) {
+		String value = getConfigPropertyString("cache.ttl." + manager);
+		if (value != null && !value.isEmpty()) {
+			try {
+				return Integer.parseInt(value);
+			} catch (NumberFormatException ex) {
+				// use global value
+			}
+		}
+		value = getConfigPropertyString("cache.ttl");
+		if (value == null || value.isEmpty()) return 0;
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns path (relative to RPC URL) of endpoint accepting batched read-only calls,
+	 * e.g. "utils/batch". If not set, calls are never batched.
+	 *
+	 * @see cz.metacentrum.perun.wui.json.JsonBatch
+	 *
+	 * @return path to batch endpoint or null
+	 */
+	public static String getRpcBatchUrl() {
+		return getConfigPropertyString("rpc.batchUrl");
+	}
+
+	/**
+	 * Returns maximum number of calls to Perun's API sent at once. Other calls wait
+	 * in queue ordered by their priority. Value is taken from "rpc.maxConcurrency" property,
+	 * if not present, 6 is used (usual limit of connections per host in browsers).
+	 * Zero means no limit, invalid value is ignored.
+	 *
+	 * @see cz.metacentrum.perun.wui.json.JsonScheduler
+	 *
+	 * @return maximum number of concurrent calls
+	 */
+	public static int getRpcMaxConcurrency() {
+		String value = getConfigPropertyString("rpc.maxConcurrency");
+		if (value == null || value.isEmpty()) return 6;
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			return 6;
+		}
+	}
+
+	/**
+	 * Returns time to live of responses warmed before user opens a page, e.g. on hover over
+	 * menu item. Value is taken from "rpc.prefetchTtl" property, if not present, 30 is used.
+	 * Zero means that calls are not prefetched, invalid value is ignored.
+	 *
+	 * @see cz.metacentrum.perun.wui.json.JsonPrefetch
+	 *
+	 * @return time to live in seconds
+	 */
+	public static int getRpcPrefetchTtl() {
+		String value = getConfigPropertyString("rpc.prefetchTtl");
+		if (value == null || value.isEmpty()) return 30;
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			return 30;
+		}
+	}
+
+	/**
+	 * Return TRUE if diacritics should be removed from strings by browser's Unicode
+	 * normalization (NFD) before using the diacritics removal table.
+	 *
+	 * @see cz.metacentrum.perun.wui.client.utils.Utils#unAccent(String)
+	 *
+	 * @return TRUE if normalization should be used, FALSE otherwise
+	 */
+	public static boolean isUnAccentNormalized() {
+		return getConfigPropertyBoolean("unAccent.normalize");
+	}
+
 	/**
 	 * Return name of "members" group.
 	 *
@@ -487,9 +736,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return list of all /fed/-like authz paths
 	 */
-	public static ArrayList<String> getFedAuthz() {
-		String value = getConfigPropertyString("fedAuthz");
-		return Utils.stringToList(value, ",");
+	public static List<String> getFedAuthz() {
+		return getConfigPropertyList("fedAuthz", ",");
 	}
 
 	/**
@@ -525,8 +773,7 @@ public final class PerunConfiguration {
 	}
 
 	public static List<String> getRegistrarEnforcedProxies() {
-		String value = getConfigPropertyString("registrar.enforceProxy");
-		return Utils.stringToList(value, ",");
+		return getConfigPropertyList("registrar.enforceProxy", ",");
 	}
 
 	// ---------------------------   WAYF   ---------------------------- //
@@ -536,8 +783,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return List of enabled wayf groups
 	 */
-	public static ArrayList<WayfGroup> getWayfGroups() {
-		return JsUtils.jsoAsList(getConfigPropertyArray("wayf.groups"));
+	public static List<WayfGroup> getWayfGroups() {
+		return JsUtils.jsoAsListView(getConfigPropertyArray("wayf.groups"));
 	}
 
 	/**
@@ -546,9 +793,8 @@ public final class PerunConfiguration {
 	 *
 	 * @return list of all cert hostnames for IC
 	 */
-	public static ArrayList<String> getWayfCertHostnames() {
-		String value = getConfigPropertyString("wayf.cert.hosts");
-		return Utils.stringToList(value, ",");
+	public static List<String> getWayfCertHostnames() {
+		return getConfigPropertyList("wayf.cert.hosts", ",");
 	}
 
 	/**
@@ -631,15 +877,20 @@ public final class PerunConfiguration {
 	 *
 	 * @return map of translated IdPs
 	 */
+	@SuppressWarnings("unchecked")
 	public static Map<String,String> getCustomIdpTranslations() {
-		String value = getConfigPropertyString("wayf.idpTranslations");
 
-		Map<String,String> translation = new HashMap<>();
-		List<String> couples = Utils.stringToList(value, "#");
+		Map<String,String> translation = (Map<String, String>) parsedValues.get("wayf.idpTranslations");
+		if (translation != null) return translation;
+
+		translation = new HashMap<>();
+		List<String> couples = getConfigPropertyList("wayf.idpTranslations", "#");
 		for (String couple : couples) {
 			String[] cp = couple.split("\\|");
 			translation.put(cp[0],cp[1]);
 		}
+		translation = Collections.unmodifiableMap(translation);
+		parsedValues.put("wayf.idpTranslations", translation);
 		return translation;
 
 	}
@@ -660,14 +911,20 @@ public final class PerunConfiguration {
 	 *
 	 * @return names of pages to hide
 	 */
+	@SuppressWarnings("unchecked")
 	public static List<String> getProfilePagesToHide() {
-		List<String> attrNames = new ArrayList<>();
+		List<String> attrNames = (List<String>) parsedValues.get("profile.hidePages");
+		if (attrNames != null) return attrNames;
+
+		attrNames = new ArrayList<>();
 		String data = getConfigPropertyString("profile.hidePages");
 		if (data != null) {
 			String[] values = data.replaceAll("\\s+","").split(",");
 			attrNames.addAll(Arrays.asList(values));
 		}
 
+		attrNames = Collections.unmodifiableList(attrNames);
+		parsedValues.put("profile.hidePages", attrNames);
 		return attrNames;
 	}
 
@@ -676,15 +933,20 @@ public final class PerunConfiguration {
 	 *
 	 * @return names of pages to hide
 	 */
+	@SuppressWarnings("unchecked")
 	public static List<String> getProfileSettingsPagesToHide() {
-		List<String> attrNames = new ArrayList<>();
+		List<String> attrNames = (List<String>) parsedValues.get("profile.settings.hidePages");
+		if (attrNames != null) return attrNames;
+
+		attrNames = new ArrayList<>();
 		String data = getConfigPropertyString("profile.settings.hidePages");
 		if (data != null) {
 			String[] values = data.replaceAll("\\s+","").split(",");
 			attrNames.addAll(Arrays.asList(values));
 		}
-		attrNames = attrNames.stream().map(s -> "settings_" + s).collect(Collectors.toList());
+		attrNames = Collections.unmodifiableList(attrNames.stream().map(s -> "settings_" + s).collect(Collectors.toList()));
 
+		parsedValues.put("profile.settings.hidePages", attrNames);
 		return attrNames;
 	}
 
@@ -726,13 +988,7 @@ public final class PerunConfiguration {
 	 * @return names of attributes that should be shown
 	 */
 	public static List<String> getRegistrarSkipSummaryFor() {
-		List<String> attributes = new ArrayList<>();
-		String data = getConfigPropertyString("registrar.skipSummaryFor");
-		if (data != null) {
-			String[] values = data.split(",");
-			attributes.addAll(Arrays.asList(values));
-		}
-		return attributes;
+		return getConfigPropertyList("registrar.skipSummaryFor", ",");
 	}
 
 	/**
@@ -4,8 +4,10 @@ import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
 import com.google.gwt.core.client.JsArrayString;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Class with JavaScript native utilities functions.
@@ -215,6 +217,8 @@ public class JsUtils {
 
 	/**
 	 * Returns passed unknown javascript object as ArrayList<T>.
+	 * Content of array is copied, so returned list can be modified.
+	 * Use {@link #jsoAsListView(JavaScriptObject)} when list is only read.
 	 *
 	 * If object is null, then empty list is returned (for code safety reasons)
 	 *
@@ -238,6 +242,21 @@ public class JsUtils {
 
 	}
 
+	/**
+	 * Returns passed unknown javascript object as read-only List<T> backed by the array.
+	 * Nothing is copied, so changes of the array are visible in the list.
+	 * Use {@link JsArrayList#toMutableList()} or {@link #jsoAsList(JavaScriptObject)}
+	 * to get copy, which can be modified (e.g. sorted).
+	 *
+	 * If object is null, then empty list is returned (for code safety reasons)
+	 *
+	 * @param jso Unknown javascript object
+	 * @return List<T> read-only view of unknown objects
+	 */
+	public static final <T extends JavaScriptObject> JsArrayList<T> jsoAsListView(JavaScriptObject jso) {
+		return new JsArrayList<T>(JsUtils.<T>jsoAsArray(jso));
+	}
+
 	/**
 	 * Returns passed single object as ArrayList<T> of required type.
 	 *
@@ -253,6 +272,76 @@ public class JsUtils {
 
 	}
 
+	/**
+	 * Return attribute stored in array property of an object (e.g. "userAttributes" of RichUser)
+	 * by its URN. If more attributes have same URN, first one is returned.
+	 * <p/>
+	 * Lookup index is built lazily and kept in hidden (non-enumerable) property of the object,
+	 * so it's not serialized or cloned. Index is rebuilt when array is replaced or its length changes.
+	 *
+	 * @param jso object with attributes
+	 * @param propertyName name of array property with attributes
+	 * @param urn URN of attribute to get
+	 * @return attribute or null if not present
+	 */
+	public static final native <T extends JavaScriptObject> T getAttributeByUrn(JavaScriptObject jso, String propertyName, String urn) /*-{
+		var index = @cz.metacentrum.perun.wui.client.utils.JsUtils::getAttributeIndex(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(jso, propertyName);
+		if (index === null) return null;
+		var attribute = index.byUrn[urn];
+		return (typeof attribute === 'undefined') ? null : attribute;
+	}-*/;
+
+	/**
+	 * Return attribute stored in array property of an object (e.g. "userAttributes" of RichUser)
+	 * by its friendly name. If more attributes have same friendly name, first one is returned.
+	 *
+	 * @see #getAttributeByUrn(JavaScriptObject, String, String)
+	 *
+	 * @param jso object with attributes
+	 * @param propertyName name of array property with attributes
+	 * @param friendlyName friendly name of attribute to get
+	 * @return attribute or null if not present
+	 */
+	public static final native <T extends JavaScriptObject> T getAttributeByFriendlyName(JavaScriptObject jso, String propertyName, String friendlyName) /*-{
+		var index = @cz.metacentrum.perun.wui.client.utils.JsUtils::getAttributeIndex(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(jso, propertyName);
+		if (index === null) return null;
+		var attribute = index.byFriendlyName[friendlyName];
+		return (typeof attribute === 'undefined') ? null : attribute;
+	}-*/;
+
+	/**
+	 * Drop lookup index of attributes stored in array property of an object.
+	 * Must be called when attributes in array are changed in place.
+	 *
+	 * @param jso object with attributes
+	 * @param propertyName name of array property with attributes
+	 */
+	public static final native void invalidateAttributeIndex(JavaScriptObject jso, String propertyName) /*-{
+		if (jso && jso.__attributeIndex) delete jso.__attributeIndex[propertyName];
+	}-*/;
+
+	private static final native JavaScriptObject getAttributeIndex(JavaScriptObject jso, String propertyName) /*-{
+		if (!jso) return null;
+		var attributes = jso[propertyName];
+		if (!attributes) return null;
+		if (!jso.__attributeIndex) {
+			Object.defineProperty(jso, "__attributeIndex", { value: {}, writable: true, configurable: true, enumerable: false });
+		}
+		var index = jso.__attributeIndex[propertyName];
+		if (!index || index.source !== attributes || index.length !== attributes.length) {
+			index = { source: attributes, length: attributes.length, byUrn: {}, byFriendlyName: {} };
+			for (var i = 0; i < attributes.length; i++) {
+				var attribute = attributes[i];
+				if (!attribute) continue;
+				var urn = attribute.namespace + ":" + attribute.friendlyName;
+				if (!index.byUrn.hasOwnProperty(urn)) index.byUrn[urn] = attribute;
+				if (!index.byFriendlyName.hasOwnProperty(attribute.friendlyName)) index.byFriendlyName[attribute.friendlyName] = attribute;
+			}
+			jso.__attributeIndex[propertyName] = index;
+		}
+		return index;
+	}-*/;
+
 	/**
 	 * Returns a Java List from JsArrayString or empty list for null or empty array.
 	 *
@@ -366,4 +455,51 @@ public class JsUtils {
 		}
 		return array;
 	}
+
+	/**
+	 * Read-only List view of JsArray. Items are read directly from the array.
+	 *
+	 * @param <T> Descendant of JavaScriptObject
+	 */
+	public static class JsArrayList<T extends JavaScriptObject> extends AbstractList<T> implements RandomAccess {
+
+		private final JsArray<T> array;
+
+		JsArrayList(JsArray<T> array) {
+			this.array = array;
+		}
+
+		@Override
+		public T get(int index) {
+			if (index < 0 || index >= array.length()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.length());
+			}
+			return array.get(index);
+		}
+
+		@Override
+		public int size() {
+			return array.length();
+		}
+
+		/**
+		 * Return copy of the list, which can be modified.
+		 *
+		 * @return modifiable copy of the list
+		 */
+		public ArrayList<T> toMutableList() {
+			return new ArrayList<T>(this);
+		}
+
+		/**
+		 * Return backing array of the list.
+		 *
+		 * @return JsArray<T> backing array
+		 */
+		public JsArray<T> getArray() {
+			return array;
+		}
+
+	}
+
 }
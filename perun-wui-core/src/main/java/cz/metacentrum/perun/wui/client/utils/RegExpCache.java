@@ -0,0 +1,65 @@
+package cz.metacentrum.perun.wui.client.utils;
+
+import com.google.gwt.regexp.shared.RegExp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared cache of compiled regular expressions, so validation of inputs
+ * on each keystroke doesn't compile the same patterns again.
+ * Least recently used patterns are removed, when cache is full.
+ *
+ * Returned RegExp is shared, callers must not change its state.
+ */
+public class RegExpCache {
+
+	private static final int MAX_SIZE = 64;
+
+	private static final Map<String, RegExp> cache = new LinkedHashMap<String, RegExp>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, RegExp> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private RegExpCache() {
+	}
+
+	/**
+	 * Return compiled regular expression without flags.
+	 *
+	 * @param pattern pattern of regular expression
+	 * @return compiled regular expression
+	 * @throws RuntimeException if pattern is not valid
+	 */
+	public static RegExp get(String pattern) {
+		return get(pattern, "");
+	}
+
+	/**
+	 * Return compiled regular expression with flags.
+	 *
+	 * @param pattern pattern of regular expression
+	 * @param flags flags of regular expression, e.g. "i"
+	 * @return compiled regular expression
+	 * @throws RuntimeException if pattern is not valid
+	 */
+	public static RegExp get(String pattern, String flags) {
+
+		if (flags == null) flags = "";
+
+		// flags can't contain slash, so key is unique
+		String key = flags + "/" + pattern;
+		RegExp regExp = cache.get(key);
+		if (regExp == null) {
+			regExp = RegExp.compile(pattern, flags);
+			cache.put(key, regExp);
+		}
+		// global expressions keep position of last match
+		regExp.setLastIndex(0);
+		return regExp;
+
+	}
+
+}
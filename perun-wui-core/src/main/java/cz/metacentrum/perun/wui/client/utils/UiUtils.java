@@ -109,9 +109,15 @@ public class UiUtils {
 					filterButton.click();
 				} else if (event.getNativeEvent().getKeyCode() == KeyCodes.KEY_ESCAPE) {
 					box.hideSuggestionList();
-				} else if (!box.isSuggestionListShowing()) {
-					// of not already displayed, show suggestion list
-					box.showSuggestionList();
+				} else {
+					if (!box.isSuggestionListShowing()) {
+						// of not already displayed, show suggestion list
+						box.showSuggestionList();
+					}
+					// filter once user stops typing, but not on moving in suggestions
+					if (event.getNativeEvent().getKeyCode() != KeyCodes.KEY_UP && event.getNativeEvent().getKeyCode() != KeyCodes.KEY_DOWN) {
+						table.filterTableDelayed(box.getText());
+					}
 				}
 			}
 		});
@@ -45,6 +45,7 @@ public class Utils {
 	private static final RegExp lastNamePattern = RegExp.compile("^((["+pL+"'-]+)|(["+pL+"][.]))$");
 
 	private static final HashMap<String, String> organizationsTranslation = new HashMap<String, String>();
+	private static JavaScriptObject diacriticsMap;
 	private static boolean firstTranslationCall = true;
 
 	static {
@@ -1076,7 +1077,44 @@ public class Utils {
 
 	}
 
-	public static final native String unAccent(String str) /*-{
+	/**
+	 * Remove diacritics from string (e.g. "Žluťoučký" to "Zlutoucky").
+	 * <p/>
+	 * Strings with ASCII characters only are returned unchanged. Otherwise
+	 * each character is replaced using table compiled on first use. If enabled by
+	 * {@link PerunConfiguration#isUnAccentNormalized()}, combining marks are removed
+	 * using browser's Unicode normalization first.
+	 *
+	 * @param str string to remove diacritics from
+	 * @return string without diacritics
+	 */
+	public static final String unAccent(String str) {
+
+		if (str == null || isAscii(str)) return str;
+		if (diacriticsMap == null) diacriticsMap = compileDiacriticsMap();
+		return unAccent(str, diacriticsMap, PerunConfiguration.isUnAccentNormalized());
+
+	}
+
+	private static final native boolean isAscii(String str) /*-{
+		return /^[\x00-\x7F]*$/.test(str);
+	}-*/;
+
+	private static final native String unAccent(String str, JavaScriptObject diacriticsMap, boolean normalize) /*-{
+		if (normalize && typeof str.normalize === 'function') {
+			str = str.normalize('NFD').replace(/[\u0300-\u036F]/g, '');
+		}
+		return str.replace(/[^\x00-\x7F]/g, function(letter) {
+			return diacriticsMap.hasOwnProperty(letter) ? diacriticsMap[letter] : letter;
+		});
+	}-*/;
+
+	/**
+	 * Create lookup table from letters with diacritics to their base letters.
+	 *
+	 * @return map of letter to its base
+	 */
+	private static final native JavaScriptObject compileDiacriticsMap() /*-{
 
 		if (!$wnd.defaultDiacriticsRemovalMap || typeof $wnd.defaultDiacriticsRemovalMap === 'undefined' || $wnd.defaultDiacriticsRemovalMap === null) {
 
@@ -1274,12 +1312,7 @@ public class Utils {
 				diacriticsMap[letters[j]] = $wnd.defaultDiacriticsRemovalMap[i].base;
 			}
 		}
-		var letters = str.split("");
-		var newStr = "";
-		for (var i = 0; i < letters.length; i++) {
-			newStr += letters[i] in diacriticsMap ? diacriticsMap[letters[i]] : letters[i];
-		}
-		return newStr;
+		return diacriticsMap;
 	}-*/;
 
 	public static ArrayList<String> getTimezones() {
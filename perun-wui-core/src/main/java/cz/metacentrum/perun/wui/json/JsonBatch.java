@@ -0,0 +1,284 @@
+package cz.metacentrum.perun.wui.json;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.http.client.URL;
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONString;
+import com.google.gwt.user.client.Cookies;
+import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
+import cz.metacentrum.perun.wui.client.resources.PerunSession;
+import cz.metacentrum.perun.wui.model.common.PerunRequest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Groups read-only calls to Perun's API made in the same event loop into
+ * one HTTP POST sent to the batch endpoint of RPC.
+ * <p/>
+ * Wire contract of the batch endpoint:
+ * <ul>
+ * <li>Request is HTTP POST to RPC URL + {@link PerunConfiguration#getRpcBatchUrl()} with the same
+ * X-XSRF-TOKEN header as standard calls. Body is JSON array of objects, one per call, e.g.
+ * <code>[{"url":"usersManager/getUserById","params":{"id":1}}, ...]</code>, where "url" is manager/method
+ * and "params" is original payload of the call (or null).</li>
+ * <li>Response is HTTP 200 with JSON array of the same length, where item at each index is result
+ * of the call at the same index: any JSON value returned by the method or PerunException object
+ * (with "errorId" and "message"), exactly as in response of standard call without callback wrapper.</li>
+ * <li>Any other status, body which is not JSON array or array of different length means,
+ * that batch is not supported and each call is sent again separately.</li>
+ * </ul>
+ * <p/>
+ * Batch is queued by {@link JsonScheduler} as single call with the highest priority of its calls.
+ * Cancelled call is removed from a batch waiting in queue. Once batch is sent, its calls are not aborted,
+ * since other calls wait for the same response, but events of cancelled calls are not called.
+ *
+ * Batching is used only when {@link PerunConfiguration#getRpcBatchUrl()} is set.
+ * If batch can't be processed by the server, each call is sent separately.
+ */
+public class JsonBatch {
+
+	private static final List<BatchedCall> queue = new ArrayList<>();
+
+	private JsonBatch() {
+	}
+
+	/**
+	 * Return TRUE if batching of calls is enabled in configuration.
+	 *
+	 * @return TRUE if batching is enabled
+	 */
+	public static boolean isEnabled() {
+		String batchUrl = PerunConfiguration.getRpcBatchUrl();
+		return batchUrl != null && !batchUrl.isEmpty();
+	}
+
+	/**
+	 * Add call to the batch. Batch is sent at the end of current event loop.
+	 *
+	 * @param client client which made the call and handles its response
+	 * @param url URL of a call (manager/method)
+	 * @param json payload of a call
+	 * @param perunRequest request info of a call
+	 * @param data payload of a call in textual form
+	 * @param cacheable TRUE if response should be stored in cache
+	 */
+	static void add(JsonClient client, String url, JSONObject json, PerunRequest perunRequest, String data, boolean cacheable) {
+
+		queue.add(new BatchedCall(client, url, json, perunRequest, data, cacheable));
+
+		if (queue.size() == 1) {
+			Scheduler.get().scheduleFinally(new Scheduler.ScheduledCommand() {
+				@Override
+				public void execute() {
+					flush();
+				}
+			});
+		}
+
+	}
+
+	/**
+	 * Schedule all queued calls. Single call is sent in a standard way.
+	 */
+	private static void flush() {
+
+		final List<BatchedCall> calls = new ArrayList<>(queue);
+		queue.clear();
+
+		if (calls.size() == 1) {
+			calls.get(0).sendSeparately();
+			return;
+		}
+
+		JsonScheduler.Priority priority = JsonScheduler.Priority.BACKGROUND;
+		for (BatchedCall call : calls) {
+			if (call.client.getPriority().ordinal() < priority.ordinal()) priority = call.client.getPriority();
+		}
+
+		JsonScheduler.schedule(new QueuedBatch(calls), priority);
+
+	}
+
+	/**
+	 * Send calls in one batch.
+	 *
+	 * @param calls calls to send
+	 * @return request of the batch or null if it couldn't be sent
+	 */
+	private static Request sendBatch(final List<BatchedCall> calls) {
+
+		JSONArray envelope = new JSONArray();
+		for (int i=0; i<calls.size(); i++) {
+			JSONObject call = new JSONObject();
+			call.put("url", new JSONString(calls.get(i).url));
+			call.put("params", calls.get(i).json);
+			envelope.set(i, call);
+		}
+
+		RequestBuilder builder = new RequestBuilder(RequestBuilder.POST,
+				URL.encode(PerunSession.getInstance().getRpcUrl() + PerunConfiguration.getRpcBatchUrl()));
+
+		if (Cookies.getCookie("XSRF-TOKEN") != null) {
+			builder.setHeader("X-XSRF-TOKEN", Cookies.getCookie("XSRF-TOKEN"));
+		}
+
+		try {
+
+			return builder.sendRequest(envelope.toString(), new RequestCallback() {
+				@Override
+				public void onResponseReceived(Request req, Response resp) {
+
+					// let waiting calls use released connection
+					JsonScheduler.dispatch();
+
+					JavaScriptObject results = (resp.getStatusCode() == 200) ? JsonUtils.parseJson(resp.getText()) : null;
+
+					if (results == null || getLength(results) != calls.size()) {
+						// batch not supported or whole batch failed
+						for (BatchedCall call : calls) {
+							call.sendSeparately();
+						}
+						return;
+					}
+
+					for (int i=0; i<calls.size(); i++) {
+						BatchedCall call = calls.get(i);
+						call.client.processResult(call.url, "null", getResult(results, i),
+								(call.cacheable) ? stringify(results, i) : null);
+					}
+
+				}
+
+				@Override
+				public void onError(Request req, Throwable exc) {
+					// let waiting calls use released connection
+					JsonScheduler.dispatch();
+					for (BatchedCall call : calls) {
+						call.sendSeparately();
+					}
+				}
+			});
+
+		} catch (RequestException exc) {
+			for (BatchedCall call : calls) {
+				call.sendSeparately();
+			}
+		}
+
+		// batch failed
+		return null;
+
+	}
+
+	/**
+	 * Return length of batch results or -1 if results are not an array.
+	 *
+	 * @param results parsed batch response
+	 * @return length of array
+	 */
+	private static native int getLength(JavaScriptObject results) /*-{
+		if (!Array.isArray(results)) return -1;
+		return results.length;
+	}-*/;
+
+	/**
+	 * Return single result from batch. Primitive values are wrapped the same way
+	 * as in standard response, so they can be read as BasicOverlayObject.
+	 *
+	 * @param results parsed batch response
+	 * @param index index of a call in batch
+	 * @return result of a call
+	 */
+	private static native JavaScriptObject getResult(JavaScriptObject results, int index) /*-{
+		var result = results[index];
+		if (result === null || typeof result === 'undefined') return null;
+		if (typeof result === 'object') return result;
+		return {"value": result};
+	}-*/;
+
+	/**
+	 * Return single result from batch in textual form.
+	 *
+	 * @param results parsed batch response
+	 * @param index index of a call in batch
+	 * @return result of a call as JSON string
+	 */
+	private static native String stringify(JavaScriptObject results, int index) /*-{
+		return JSON.stringify(results[index]);
+	}-*/;
+
+	/**
+	 * Batch of calls waiting in queue of {@link JsonScheduler}.
+	 */
+	private static class QueuedBatch implements JsonScheduler.QueuedCall {
+
+		private final List<BatchedCall> calls;
+
+		QueuedBatch(List<BatchedCall> calls) {
+			this.calls = calls;
+		}
+
+		@Override
+		public Request send() {
+			return sendBatch(calls);
+		}
+
+		@Override
+		public boolean hasEvents(JsonEvents events) {
+			for (BatchedCall call : calls) {
+				if (call.client.getEvents() == events) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public boolean removeEvents(JsonEvents events) {
+			Iterator<BatchedCall> iterator = calls.iterator();
+			while (iterator.hasNext()) {
+				if (iterator.next().client.getEvents() == events) {
+					iterator.remove();
+					break;
+				}
+			}
+			return calls.isEmpty();
+		}
+
+	}
+
+	/**
+	 * Single call waiting in the batch.
+	 */
+	private static class BatchedCall {
+
+		private final JsonClient client;
+		private final String url;
+		private final JSONObject json;
+		private final PerunRequest perunRequest;
+		private final String data;
+		private final boolean cacheable;
+
+		BatchedCall(JsonClient client, String url, JSONObject json, PerunRequest perunRequest, String data, boolean cacheable) {
+			this.client = client;
+			this.url = url;
+			this.json = json;
+			this.perunRequest = perunRequest;
+			this.data = data;
+			this.cacheable = cacheable;
+		}
+
+		void sendSeparately() {
+			client.schedule(url, perunRequest, data, cacheable);
+		}
+
+	}
+
+}
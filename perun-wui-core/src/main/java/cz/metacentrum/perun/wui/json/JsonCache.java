@@ -0,0 +1,285 @@
+package cz.metacentrum.perun.wui.json;
+
+import com.google.gwt.json.client.JSONObject;
+import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory cache of responses from read-only calls to Perun's API.
+ *
+ * Responses are stored as raw text keyed by "manager/method" and canonical
+ * form of the request payload, so each hit is parsed again and callers can't
+ * modify shared objects. Time to live of entries is configured per manager
+ * in {@link PerunConfiguration#getRpcCacheTtl(String)}, caching is disabled
+ * for managers with TTL of zero.
+ *
+ * Methods, which return state changing without any call made by GUI (e.g. availability of login),
+ * are never cached, see {@link #NOT_CACHED_METHODS}.
+ *
+ * Any call, which is not read-only, invalidates all entries of its manager
+ * and all managers which return data depending on it. Responses of calls sent before
+ * such invalidation are not stored, since they might contain data before the change.
+ *
+ * Responses of calls made by {@link JsonPrefetch} are stored regardless of manager's TTL
+ * and are removed once they are used by a call, which is not prefetched.
+ */
+public class JsonCache {
+
+	// methods with these prefixes don't modify any data in Perun
+	private static final List<String> READ_ONLY_PREFIXES = Arrays.asList("get", "is", "find", "list");
+
+	// read-only methods, which must always return current state from the server
+	private static final List<String> NOT_CACHED_METHODS = Arrays.asList("isLoginAvailable", "getPerunPrincipal",
+			"getGuiConfiguration", "getPerunStatus", "getPendingRequests", "getConsolidatorToken",
+			"getPendingPreferredEmailChanges");
+
+	// managers, which returns data (e.g. RichUsers with attributes) changed by mutations in another manager
+	private static final Map<String, List<String>> DEPENDENT_MANAGERS = new HashMap<>();
+
+	static {
+		DEPENDENT_MANAGERS.put("attributesManager", Arrays.asList("usersManager", "membersManager", "registrarManager"));
+		DEPENDENT_MANAGERS.put("usersManager", Arrays.asList("attributesManager", "membersManager"));
+		DEPENDENT_MANAGERS.put("membersManager", Arrays.asList("attributesManager", "groupsManager", "usersManager"));
+		DEPENDENT_MANAGERS.put("groupsManager", Arrays.asList("membersManager", "resourcesManager"));
+		DEPENDENT_MANAGERS.put("registrarManager", Arrays.asList("membersManager", "usersManager", "vosManager", "groupsManager"));
+	}
+
+	private static final Map<String, CachedResponse> cache = new HashMap<>();
+	// incremented on each invalidation
+	private static int generation = 0;
+
+	private JsonCache() {
+	}
+
+	/**
+	 * Return TRUE if response of call to specified URL can be stored in cache.
+	 * Only read-only methods of managers with TTL set in configuration are cached.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @return TRUE if response can be cached
+	 */
+	public static boolean isCacheable(String url) {
+		String manager = getManager(url);
+		return manager != null && isPrefetchable(url) && PerunConfiguration.getRpcCacheTtl(manager) > 0;
+	}
+
+	/**
+	 * Return TRUE if response of call to specified URL can be warmed by {@link JsonPrefetch}.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @return TRUE if response can be prefetched
+	 */
+	static boolean isPrefetchable(String url) {
+		return isReadOnly(url) && !NOT_CACHED_METHODS.contains(getMethod(url));
+	}
+
+	/**
+	 * Return current generation of cache. Generation changes with each invalidation,
+	 * so response of a call sent before it is not stored.
+	 *
+	 * @return generation of cache
+	 */
+	static int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Return TRUE if method called on URL doesn't modify any data.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @return TRUE if call is read-only
+	 */
+	public static boolean isReadOnly(String url) {
+		String method = getMethod(url);
+		for (String prefix : READ_ONLY_PREFIXES) {
+			if (method.startsWith(prefix)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Get cached response for a call.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @param json payload of a call
+	 * @return raw response text or null if not cached or expired
+	 */
+	public static String get(String url, JSONObject json) {
+
+		String key = getKey(url, json);
+		CachedResponse response = cache.get(key);
+		if (response == null) return null;
+
+		if (response.isExpired() || response.once) {
+			cache.remove(key);
+		}
+		return (response.isExpired()) ? null : response.text;
+
+	}
+
+	/**
+	 * Get cached response for a call without using up warmed responses.
+	 * Used by calls made by {@link JsonPrefetch}.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @param json payload of a call
+	 * @return raw response text or null if not cached or expired
+	 */
+	static String peek(String url, JSONObject json) {
+
+		CachedResponse response = cache.get(getKey(url, json));
+		if (response == null || response.isExpired()) return null;
+		return response.text;
+
+	}
+
+	/**
+	 * Store response of a call in cache. Response is not stored, if cache was invalidated
+	 * after the call was sent.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @param json payload of a call
+	 * @param text raw response text
+	 * @param sentGeneration generation of cache when call was sent
+	 */
+	public static void put(String url, JSONObject json, String text, int sentGeneration) {
+
+		if (sentGeneration != generation || !isCacheable(url)) return;
+		int ttl = PerunConfiguration.getRpcCacheTtl(getManager(url));
+		if (ttl <= 0) return;
+		cache.put(getKey(url, json), new CachedResponse(text, System.currentTimeMillis() + ttl * 1000L, false));
+
+	}
+
+	/**
+	 * Store warmed response of a prefetched call. It's used only by the first call,
+	 * which is not prefetched. Response of manager with TTL set in configuration is stored as usual.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @param json payload of a call
+	 * @param text raw response text
+	 * @param sentGeneration generation of cache when call was sent
+	 */
+	static void putPrefetched(String url, JSONObject json, String text, int sentGeneration) {
+
+		if (isCacheable(url)) {
+			put(url, json, text, sentGeneration);
+			return;
+		}
+		if (sentGeneration != generation || !isPrefetchable(url)) return;
+		int ttl = PerunConfiguration.getRpcPrefetchTtl();
+		if (ttl <= 0) return;
+		cache.put(getKey(url, json), new CachedResponse(text, System.currentTimeMillis() + ttl * 1000L, true));
+
+	}
+
+	/**
+	 * Remove all cached responses of a manager, which is called by URL,
+	 * and of all managers depending on it.
+	 *
+	 * @param url URL of a modifying call (manager/method)
+	 */
+	public static void invalidate(String url) {
+
+		String manager = getManager(url);
+		if (manager == null) return;
+
+		generation++;
+		List<String> managers = new ArrayList<>();
+		managers.add(manager);
+		if (DEPENDENT_MANAGERS.containsKey(manager)) {
+			managers.addAll(DEPENDENT_MANAGERS.get(manager));
+		}
+
+		Iterator<String> keys = cache.keySet().iterator();
+		while (keys.hasNext()) {
+			String key = keys.next();
+			if (managers.contains(key.substring(0, key.indexOf("/")))) {
+				keys.remove();
+			}
+		}
+
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	public static void clear() {
+		generation++;
+		cache.clear();
+	}
+
+	/**
+	 * Create unique key of a call. Payload keys are sorted so same
+	 * parameters put into the request in different order produce the same key.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @param json payload of a call
+	 * @return cache key
+	 */
+	private static String getKey(String url, JSONObject json) {
+
+		StringBuilder key = new StringBuilder(url);
+		if (json != null) {
+			List<String> params = new ArrayList<>(json.keySet());
+			Collections.sort(params);
+			for (String param : params) {
+				key.append("|").append(param).append("=").append(json.get(param).toString());
+			}
+		}
+		return key.toString();
+
+	}
+
+	/**
+	 * Get manager part of URL.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @return name of manager or null if URL has no manager part
+	 */
+	private static String getManager(String url) {
+		if (url == null || !url.contains("/")) return null;
+		return url.substring(0, url.indexOf("/"));
+	}
+
+	/**
+	 * Get method part of URL.
+	 *
+	 * @param url URL of a call (manager/method)
+	 * @return name of method
+	 */
+	private static String getMethod(String url) {
+		if (url == null) return "";
+		return url.substring(url.lastIndexOf("/") + 1);
+	}
+
+	/**
+	 * Raw response text with time of its expiration.
+	 */
+	private static class CachedResponse {
+
+		private final String text;
+		private final long expiration;
+		// warmed response used only once
+		private final boolean once;
+
+		CachedResponse(String text, long expiration, boolean once) {
+			this.text = text;
+			this.expiration = expiration;
+			this.once = once;
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() > expiration;
+		}
+
+	}
+
+}
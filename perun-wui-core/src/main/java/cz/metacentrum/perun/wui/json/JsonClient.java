@@ -17,14 +17,10 @@ import com.google.gwt.json.client.JSONNumber;
 import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONString;
 import com.google.gwt.json.client.JSONValue;
-import com.google.gwt.regexp.shared.MatchResult;
-import com.google.gwt.regexp.shared.RegExp;
 import com.google.gwt.user.client.Cookies;
 import com.google.gwt.user.client.Window;
 import cz.metacentrum.perun.wui.client.resources.PerunErrorTranslation;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
-import cz.metacentrum.perun.wui.client.resources.PerunWebConstants;
-import cz.metacentrum.perun.wui.json.managers.UtilsManager;
 import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.model.common.PerunRequest;
 import cz.metacentrum.perun.wui.widgets.PerunButton;
@@ -38,7 +34,9 @@ import org.gwtbootstrap3.client.ui.ModalFooter;
 import org.gwtbootstrap3.client.ui.ModalHeader;
 import org.gwtbootstrap3.client.ui.html.Paragraph;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -68,12 +66,26 @@ public class JsonClient {
 	private String requestUrl;
 	private JSONObject json = new JSONObject();
 	private boolean checkIfPending = false;
+	private boolean loadingStarted = false;
+	private boolean incrementalParsing = false;
+	private JsonScheduler.Priority priority = JsonScheduler.getCurrentPriority();
+	// response is warmed for a page, see JsonPrefetch
+	private boolean prefetch = JsonPrefetch.isPrefetching();
+	// generation of cache when call was made, see JsonCache
+	private int cacheGeneration;
+	// events passed by caller of this client
+	private JsonEvents callerEvents;
+	private Request request;
+
+	// responses longer than this (in characters) are parsed incrementally if enabled
+	private static final int INCREMENTAL_PARSING_THRESHOLD = 1024 * 1024;
 
 	private PerunErrorTranslation errorTranslation = GWT.create(PerunErrorTranslation.class);
 
 	private Map<String, PerunRequest> runningRequests = new HashMap<>();
+	// identical read-only requests waiting for response, keyed by URL and payload
+	private static Map<String, SharedJsonEvents> inFlightRequests = new HashMap<>();
 	private static Paragraph layout = new Paragraph();
-	private static int counter = 0;
 	private static Modal modal;
 	private static boolean shown = false;
 
@@ -154,6 +166,27 @@ public class JsonClient {
 		if (events != null) this.events = events;
 	}
 
+	/**
+	 * Parse big responses with JSON array incrementally in slices of time instead of at once.
+	 * It should be enabled for calls, which might return huge lists of objects.
+	 *
+	 * @param incrementalParsing TRUE to parse big responses incrementally
+	 */
+	public void setIncrementalParsing(boolean incrementalParsing) {
+		this.incrementalParsing = incrementalParsing;
+	}
+
+	/**
+	 * Set priority of the call. Calls with lower priority wait, when there are
+	 * too many calls to Perun's API running at once. By default, priority is taken from
+	 * {@link JsonScheduler#withPriority(JsonScheduler.Priority, Scheduler.ScheduledCommand)}.
+	 *
+	 * @param priority priority of the call
+	 */
+	public void setPriority(JsonScheduler.Priority priority) {
+		this.priority = priority;
+	}
+
 	/**
 	 * Put custom parameter into payload of a request.
 	 *
@@ -231,8 +264,13 @@ public class JsonClient {
 	/**
 	 * Call specific URL with custom events.
 	 *
+	 * Returned Request is null, if no request was sent by this call: response was taken from
+	 * {@link JsonCache}, call was added to {@link JsonBatch} or waits in {@link JsonScheduler} queue
+	 * (or joined such pending call). Events are called in all cases, callers must not rely on
+	 * returned Request to cancel or detect the call.
+	 *
 	 * @param url URL to send data to
-	 * @return Request unique handling Request
+	 * @return Request unique handling Request or null
 	 */
 	public Request call(final String url) {
 
@@ -240,11 +278,171 @@ public class JsonClient {
 		perunRequest.setStartTime();
 		final String callbackName = perunRequest.getStartTime()+"";
 
+		callerEvents = events;
+
+		final boolean cacheable = !checkIfPending && (JsonCache.isCacheable(url) || (prefetch && JsonCache.isPrefetchable(url)));
+		if (!checkIfPending && JsonCache.isReadOnly(url)) {
+			// prefetched calls must not use up warmed responses
+			final String cached = (prefetch) ? JsonCache.peek(url, json) : JsonCache.get(url, json);
+			if (cached != null) {
+				events.onLoadingStart();
+				// keep callback asynchronous as if response was received from server
+				Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
+					@Override
+					public void execute() {
+						events.onFinished(parseResponse(callbackName, cached));
+					}
+				});
+				return null;
+			}
+		} else if (!JsonCache.isReadOnly(url)) {
+			JsonCache.invalidate(url);
+		}
+
 		if (checkIfPending) runningRequests.put(callbackName, perunRequest);
 
+		// response is not cached, if any data change meanwhile
+		cacheGeneration = JsonCache.getGeneration();
+
 		// build request URL
 		this.requestUrl = URL.encode(urlPrefix + url + ((checkIfPending) ? ("?callback=" + callbackName) : ""));
 
+		final String data = (json != null && json.isObject() != null) ? json.toString() : "";
+
+		// join identical pending read-only request instead of sending new one
+		SharedJsonEvents sharedEvents = null;
+		if (!checkIfPending && JsonCache.isReadOnly(url)) {
+			final String inFlightKey = requestUrl + "|" + data;
+			sharedEvents = inFlightRequests.get(inFlightKey);
+			if (sharedEvents != null) {
+				sharedEvents.add(events);
+				// response is used by the page, it's not warmed anymore
+				if (!prefetch) sharedEvents.setConsumed();
+				events.onLoadingStart();
+				setScopedRequest(callerEvents, sharedEvents.getRequest());
+				return sharedEvents.getRequest();
+			}
+			sharedEvents = new SharedJsonEvents(inFlightKey, events);
+			inFlightRequests.put(inFlightKey, sharedEvents);
+			events = sharedEvents;
+
+			// send together with other read-only calls made in the same event loop
+			if (JsonBatch.isEnabled()) {
+				startLoading();
+				JsonBatch.add(this, url, json, perunRequest, data, cacheable);
+				return null;
+			}
+		}
+
+		schedule(url, perunRequest, data, cacheable);
+		return request;
+
+	}
+
+	/**
+	 * Send request to Perun's API once limit of concurrent calls allows it.
+	 *
+	 * @param url URL to send data to
+	 * @param perunRequest request info (start time used as callback name)
+	 * @param data payload of a request
+	 * @param cacheable TRUE if response should be stored in cache
+	 */
+	void schedule(String url, PerunRequest perunRequest, String data, boolean cacheable) {
+		startLoading();
+		JsonScheduler.schedule(this, url, perunRequest, data, cacheable, priority);
+	}
+
+	/**
+	 * Send scheduled request to Perun's API and pass it to events, which can cancel it.
+	 *
+	 * @param url URL to send data to
+	 * @param perunRequest request info (start time used as callback name)
+	 * @param data payload of a request
+	 * @param cacheable TRUE if response should be stored in cache
+	 * @return Request unique handling Request
+	 */
+	Request dispatch(String url, PerunRequest perunRequest, String data, boolean cacheable) {
+		request = send(url, perunRequest, data, cacheable);
+		if (events instanceof SharedJsonEvents) ((SharedJsonEvents) events).setRequest(request);
+		setScopedRequest(callerEvents, request);
+		return request;
+	}
+
+	/**
+	 * Return priority of the call.
+	 *
+	 * @return priority of the call
+	 */
+	JsonScheduler.Priority getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Return events handling response of the call.
+	 *
+	 * @return events of the call
+	 */
+	JsonEvents getEvents() {
+		return events;
+	}
+
+	/**
+	 * Pass request to events of a call made within {@link JsonRequestScope}, so it can be cancelled.
+	 *
+	 * @param events events passed to the call
+	 * @param request request of the call
+	 */
+	private static void setScopedRequest(JsonEvents events, Request request) {
+		if (events instanceof JsonRequestScope.ScopedJsonEvents) {
+			((JsonRequestScope.ScopedJsonEvents) events).setRequest(request);
+		}
+	}
+
+	/**
+	 * Cancel call to Perun's API. If identical read-only call was made by other caller,
+	 * only events are removed and request is aborted when no caller waits for its response.
+	 *
+	 * @param request request to abort or null if not known
+	 * @param events events of cancelled call
+	 */
+	static void cancel(Request request, JsonEvents events) {
+
+		Iterator<SharedJsonEvents> iterator = inFlightRequests.values().iterator();
+		while (iterator.hasNext()) {
+			SharedJsonEvents sharedEvents = iterator.next();
+			if (sharedEvents.remove(events)) {
+				// other callers still wait for the response
+				if (sharedEvents.hasListeners()) return;
+				iterator.remove();
+				request = sharedEvents.getRequest();
+				events = sharedEvents;
+				break;
+			}
+		}
+
+		if (request == null) {
+			// call is still waiting in queue
+			JsonScheduler.remove(events);
+		} else if (request.isPending()) {
+			request.cancel();
+			JsonScheduler.dispatch();
+		}
+
+	}
+
+	/**
+	 * Actually send request to Perun's API.
+	 *
+	 * @param url URL to send data to
+	 * @param perunRequest request info (start time used as callback name)
+	 * @param data payload of a request
+	 * @param cacheable TRUE if response should be stored in cache
+	 * @return Request unique handling Request
+	 */
+	Request send(final String url, final PerunRequest perunRequest, final String data, final boolean cacheable) {
+
+		final String callbackName = perunRequest.getStartTime()+"";
+
 		// we do use POST every time in order to use JSON deserializer on server side
 		RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, requestUrl);
 
@@ -254,38 +452,39 @@ public class JsonClient {
 
 		try {
 
-			events.onLoadingStart();
-
-			final String data = (json != null && json.isObject() != null) ? json.toString() : "";
+			startLoading();
 
 			Request request = builder.sendRequest(data, new RequestCallback() {
 				@Override
 				public void onResponseReceived(Request req, Response resp) {
 
+					// let waiting calls use released connection
+					JsonScheduler.dispatch();
+
+					// drop responses read while data were being changed
+					if (!JsonCache.isReadOnly(url)) JsonCache.invalidate(url);
+
+					if (resp.getStatusCode() == 200 && incrementalParsing && resp.getText().length() > INCREMENTAL_PARSING_THRESHOLD) {
+						final String text = resp.getText();
+						final String unwrapped = unwrapResponse(callbackName, text);
+						if (unwrapped != null && unwrapped.charAt(0) == '[') {
+							JsonUtils.parseJsonIncrementally(unwrapped, new JsonUtils.IncrementalParsingCallback() {
+								@Override
+								public void onParsed(JavaScriptObject jso) {
+									processResult(url, callbackName, jso, (cacheable) ? text : null);
+								}
+							});
+							return;
+						}
+					}
+
 					// make JSO from textual JSON response
 					JavaScriptObject jso = parseResponse(callbackName, resp.getText());
 
 					// HTTP status code is OK
 					if (resp.getStatusCode() == 200) {
 
-						// check JSO, if not PerunException
-						if (jso != null) {
-
-							PerunException error = (PerunException)jso;
-
-							if (error.getErrorId() != null && error.getMessage() != null) {
-								error.setRequestURL(url);
-								error.setPostData((json != null) ? json.toString() : "");
-								if (checkIfPending) runningRequests.remove(callbackName);
-								events.onError(error);
-								return;
-							}
-
-						}
-
-						// Response is OK (object or null)
-						if (checkIfPending) runningRequests.remove(callbackName);
-						events.onFinished(jso);
+						processResult(url, callbackName, jso, (cacheable) ? resp.getText() : null);
 
 					} else {
 
@@ -310,72 +509,37 @@ public class JsonClient {
 								// 5 minute timeout for POST callbacks
 								if ((runningRequests.get(callbackName).getDuration() / (1000)) >= 5 && checkIfPending) {
 
-									counter++;
-									layout.setHTML("Processing of your request(s) is taking longer than usual, but it's actively processed by the server.<p>Please do not close opened window/tab nor repeat your action. You will be notified once operation completes.<p>Remaining requests: " + counter);
-
-									if (!shown && counter > 0) modal.show();
-
-									Scheduler.get().scheduleFixedDelay(new Scheduler.RepeatingCommand() {
-										boolean again = true;
-
+									// check state of request until server finishes it
+									JsonPendingPoller.add(callbackName, new JsonPendingPoller.PendingCallback() {
 										@Override
-										public boolean execute() {
-											if (again) {
-												UtilsManager.getPendingRequest(callbackName, new JsonEvents() {
-													@Override
-													public void onFinished(JavaScriptObject jso) {
-
-														final PerunRequest req = jso.cast();
-														if ((req.getCallbackName().equals(perunRequest.getStartTime() + "")) && req.getEndTime() > 0) {
-
-															if (again) {
-
-																again = false;
-																counter--;
-																layout.setHTML("Processing of your request(s) is taking longer than usual, but it's actively processed by the server.<p>Please do not close opened window/tab nor repeat your action. You will be notified once operation completes.<p>Remaining requests: " + counter);
-
-																// hide notification
-																if (shown && counter <= 0) modal.hide();
+										public void onCompleted(PerunRequest req) {
 
-																JavaScriptObject result = req.getResult();
+											updatePendingNotification();
 
-																// check JSO, if not PerunException
-																if (result != null) {
+											JavaScriptObject result = req.getResult();
 
-																	PerunException error = (PerunException) result;
+											// check JSO, if not PerunException
+											if (result != null) {
 
-																	if (error.getErrorId() != null && error.getMessage() != null) {
-																		error.setRequestURL(url);
-																		error.setPostData((json != null) ? json.toString() : "");
-																		if (checkIfPending) runningRequests.remove(callbackName);
-																		events.onError(error);
-																		return;
-																	}
+												PerunException error = (PerunException) result;
 
-																}
+												if (error.getErrorId() != null && error.getMessage() != null) {
+													error.setRequestURL(url);
+													error.setPostData((json != null) ? json.toString() : "");
+													if (checkIfPending) runningRequests.remove(callbackName);
+													events.onError(error);
+													return;
+												}
 
-																// Response is OK (object or null)
-																if (checkIfPending) runningRequests.remove(callbackName);
-																events.onFinished(result);
-
-															}
-														}
-													}
-
-													@Override
-													public void onError(PerunException error) {
-
-													}
+											}
 
-													@Override
-													public void onLoadingStart() {
+											// Response is OK (object or null)
+											if (checkIfPending) runningRequests.remove(callbackName);
+											events.onFinished(result);
 
-													}
-												});
-											}
-											return again;
 										}
-									}, ((PerunWebConstants) GWT.create(PerunWebConstants.class)).pendingRequestsRefreshInterval());
+									});
+									updatePendingNotification();
 
 									return;
 
@@ -420,6 +584,8 @@ public class JsonClient {
 
 				@Override
 				public void onError(Request req, Throwable exc) {
+					// let waiting calls use released connection
+					JsonScheduler.dispatch();
 					// request not sent
 					handleErrors(parseResponse(callbackName, exc.toString()));
 				}
@@ -437,6 +603,70 @@ public class JsonClient {
 
 	}
 
+	/**
+	 * Notify events handler about start of loading, but only once per call.
+	 */
+	private void startLoading() {
+		if (!loadingStarted) {
+			loadingStarted = true;
+			events.onLoadingStart();
+		}
+	}
+
+	/**
+	 * Show number of requests still processed by the server in notification
+	 * or hide notification if there is none.
+	 */
+	private static void updatePendingNotification() {
+
+		int count = JsonPendingPoller.getPendingCount();
+		layout.setHTML("Processing of your request(s) is taking longer than usual, but it's actively processed by the server.<p>Please do not close opened window/tab nor repeat your action. You will be notified once operation completes.<p>Remaining requests: " + count);
+
+		if (!shown && count > 0) modal.show();
+		// hide notification
+		if (shown && count <= 0) modal.hide();
+
+	}
+
+	/**
+	 * Pass successfully retrieved response to events handler. If response
+	 * is PerunException, it's passed as an error.
+	 *
+	 * @param url URL data were sent to
+	 * @param callbackName unique name associated with this callback
+	 * @param jso retrieved data
+	 * @param text raw response text to be cached or null if response is not cached
+	 */
+	void processResult(String url, String callbackName, JavaScriptObject jso, String text) {
+
+		// check JSO, if not PerunException
+		if (jso != null) {
+
+			PerunException error = (PerunException)jso;
+
+			if (error.getErrorId() != null && error.getMessage() != null) {
+				error.setRequestURL(url);
+				error.setPostData((json != null) ? json.toString() : "");
+				if (checkIfPending) runningRequests.remove(callbackName);
+				events.onError(error);
+				return;
+			}
+
+		}
+
+		// Response is OK (object or null)
+		if (checkIfPending) runningRequests.remove(callbackName);
+		if (text != null) {
+			if (!prefetch) {
+				JsonCache.put(url, json, text, cacheGeneration);
+			} else if (!(events instanceof SharedJsonEvents) || !((SharedJsonEvents) events).isConsumed()) {
+				JsonCache.putPrefetched(url, json, text, cacheGeneration);
+			}
+		}
+		events.onFinished(jso);
+
+	}
+
 	/**
 	 * Handles callback errors before passing them to events handler.
 	 *
@@ -464,34 +694,152 @@ public class JsonClient {
 	 */
 	private JavaScriptObject parseResponse(String callbackName, String resp) {
 
+		resp = unwrapResponse(callbackName, resp);
+		if (resp == null) return null;
+
+		// normal object
+		return JsonUtils.parseJson(resp);
+
+	}
+
+	/**
+	 * Strip whitespace and callback wrapper from server response. Response is copied only once.
+	 *
+	 * @param callbackName unique name associated with this callback
+	 * @param resp server response
+	 * @return JSON contained in response or null if response is empty or null
+	 */
+	private String unwrapResponse(String callbackName, String resp) {
+
 		// we don't send callback name if checkIfPending == false
 		if (!checkIfPending) callbackName = "null";
 
-		if (resp == null || resp.isEmpty()) return null;
-
-		// trims the whitespace
-		resp = resp.trim();
+		if (resp == null) return null;
+
+		// skip the whitespace
+		int start = 0;
+		int end = resp.length();
+		while (start < end && resp.charAt(start) <= ' ') start++;
+		while (end > start && resp.charAt(end - 1) <= ' ') end--;
+
+		// if starts with 'callbackName(' and ends with ')' or ');' == wrapped => must be unwrapped
+		int prefix = callbackName.length() + 1;
+		if (end - start > prefix && resp.startsWith(callbackName, start) && resp.charAt(start + prefix - 1) == '(') {
+			int close = (resp.charAt(end - 1) == ';') ? end - 1 : end;
+			if (close - start > prefix && resp.charAt(close - 1) == ')') {
+				start += prefix;
+				end = close - 1;
+			}
+		}
 
-		// short comparing
-		if ((callbackName + "(null);").equalsIgnoreCase(resp)) {
+		// if response == null => return null
+		if (start >= end || (end - start == 4 && "null".equalsIgnoreCase(resp.substring(start, end)))) {
 			return null;
 		}
 
-		// if starts with 'callbackPost(' and ends with ')'or ');' == wrapped => must be unwrapped
-		RegExp re = RegExp.compile("^" + callbackName + "\\((.*)\\)|\\);$");
-		MatchResult result = re.exec(resp);
-		if (result != null) {
-			resp = result.getGroup(1);
+		return resp.substring(start, end);
+
+	}
+
+	/**
+	 * Events of a pending read-only request, which are shared by all identical
+	 * requests made before its response is received. Response is passed
+	 * to events of each such request.
+	 * <p/>
+	 * All events receive the same JavaScriptObject (unlike responses taken from {@link JsonCache},
+	 * which are parsed for each call), so read-only calls must not modify the returned object.
+	 * Exception thrown by events of one request doesn't prevent notifying the others,
+	 * the first one is re-thrown once all events are notified.
+	 */
+	private static class SharedJsonEvents implements JsonEvents {
+
+		private final String key;
+		private final List<JsonEvents> listeners = new ArrayList<>();
+		private Request request;
+		private boolean consumed = false;
+
+		SharedJsonEvents(String key, JsonEvents events) {
+			this.key = key;
+			this.listeners.add(events);
 		}
 
-		// if response == null => return null
-		if (resp.equalsIgnoreCase("null")) {
-			return null;
+		void add(JsonEvents events) {
+			listeners.add(events);
 		}
 
-		// normal object
-		JavaScriptObject jso = JsonUtils.parseJson(resp);
-		return jso;
+		boolean remove(JsonEvents events) {
+			return listeners.remove(events);
+		}
+
+		boolean hasListeners() {
+			return !listeners.isEmpty();
+		}
+
+		boolean isConsumed() {
+			return consumed;
+		}
+
+		void setConsumed() {
+			this.consumed = true;
+		}
+
+		Request getRequest() {
+			return request;
+		}
+
+		void setRequest(Request request) {
+			this.request = request;
+		}
+
+		/**
+		 * Stop sharing response with new identical requests. Entry is removed only if it still
+		 * belongs to this request, since cancelled request could be replaced by a newer one.
+		 */
+		private void unregister() {
+			if (inFlightRequests.get(key) == this) inFlightRequests.remove(key);
+		}
+
+		@Override
+		public void onFinished(JavaScriptObject jso) {
+			unregister();
+			RuntimeException thrown = null;
+			// listeners might be cancelled by events of other listeners
+			for (JsonEvents events : new ArrayList<>(listeners)) {
+				try {
+					events.onFinished(jso);
+				} catch (RuntimeException ex) {
+					if (thrown == null) thrown = ex;
+				}
+			}
+			if (thrown != null) throw thrown;
+		}
+
+		@Override
+		public void onError(PerunException error) {
+			unregister();
+			RuntimeException thrown = null;
+			for (JsonEvents events : new ArrayList<>(listeners)) {
+				try {
+					events.onError(error);
+				} catch (RuntimeException ex) {
+					if (thrown == null) thrown = ex;
+				}
+			}
+			if (thrown != null) throw thrown;
+		}
+
+		@Override
+		public void onLoadingStart() {
+			RuntimeException thrown = null;
+			for (JsonEvents events : new ArrayList<>(listeners)) {
+				try {
+					events.onLoadingStart();
+				} catch (RuntimeException ex) {
+					if (thrown == null) thrown = ex;
+				}
+			}
+			if (thrown != null) throw thrown;
+		}
 
 	}
 
@@ -0,0 +1,147 @@
+package cz.metacentrum.perun.wui.json;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler;
+import cz.metacentrum.perun.wui.client.resources.PerunWebConstants;
+import cz.metacentrum.perun.wui.client.utils.JsUtils;
+import cz.metacentrum.perun.wui.json.managers.UtilsManager;
+import cz.metacentrum.perun.wui.model.PerunException;
+import cz.metacentrum.perun.wui.model.common.PerunRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks state of long running calls, which are still processed by the server after their
+ * HTTP request timed out. All such calls are checked by single call of getPendingRequests.
+ *
+ * Checks are made in exponentially growing intervals (with random jitter), starting at
+ * {@link PerunWebConstants#pendingRequestsRefreshInterval()}. Interval is reset, when any
+ * call completes or new call starts to be checked. Polling stops once no call is pending.
+ */
+public class JsonPendingPoller {
+
+	// interval never grows over base interval multiplied by this
+	private static final int MAX_BACKOFF_MULTIPLIER = 16;
+
+	private static final Map<String, PendingCallback> pending = new HashMap<>();
+	private static boolean polling = false;
+	private static int attempt = 0;
+
+	private JsonPendingPoller() {
+	}
+
+	/**
+	 * Callback of a pending call.
+	 */
+	interface PendingCallback {
+
+		/**
+		 * Called once server finished processing of a call.
+		 *
+		 * @param request finished request with result
+		 */
+		void onCompleted(PerunRequest request);
+
+	}
+
+	/**
+	 * Start checking of a pending call.
+	 *
+	 * @param callbackName unique name of a call
+	 * @param callback callback called once call is finished
+	 */
+	static void add(String callbackName, PendingCallback callback) {
+
+		pending.put(callbackName, callback);
+		attempt = 0;
+		if (!polling) {
+			polling = true;
+			schedulePoll();
+		}
+
+	}
+
+	/**
+	 * Return number of calls still processed by the server.
+	 *
+	 * @return number of pending calls
+	 */
+	public static int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Schedule next check of pending calls.
+	 */
+	private static void schedulePoll() {
+
+		int interval = ((PerunWebConstants) GWT.create(PerunWebConstants.class)).pendingRequestsRefreshInterval();
+		int delay = interval * Math.min(1 << Math.min(attempt, 30), MAX_BACKOFF_MULTIPLIER);
+		// spread checks of more clients (tabs) in time
+		delay = delay / 2 + (int) (Math.random() * (delay / 2));
+
+		Scheduler.get().scheduleFixedDelay(new Scheduler.RepeatingCommand() {
+			@Override
+			public boolean execute() {
+				poll();
+				return false;
+			}
+		}, Math.max(delay, 1));
+
+	}
+
+	/**
+	 * Check state of all pending calls.
+	 */
+	private static void poll() {
+
+		UtilsManager.getPendingRequests(new JsonEvents() {
+			@Override
+			public void onFinished(JavaScriptObject jso) {
+
+				boolean completed = false;
+				if (jso != null && JsUtils.isJsArray(jso)) {
+					for (PerunRequest request : JsUtils.<PerunRequest>jsoAsListView(jso)) {
+						if (request.getEndTime() > 0 && pending.containsKey(request.getCallbackName())) {
+							completed = true;
+							pending.remove(request.getCallbackName()).onCompleted(request);
+						}
+					}
+				}
+				if (completed) {
+					attempt = 0;
+				} else {
+					attempt++;
+				}
+				next();
+
+			}
+
+			@Override
+			public void onError(PerunException error) {
+				attempt++;
+				next();
+			}
+
+			@Override
+			public void onLoadingStart() {
+			}
+		});
+
+	}
+
+	/**
+	 * Schedule next check or stop polling when nothing is pending.
+	 */
+	private static void next() {
+		if (pending.isEmpty()) {
+			polling = false;
+			attempt = 0;
+		} else {
+			schedulePoll();
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+package cz.metacentrum.perun.wui.json;
+
+import com.google.gwt.core.client.Scheduler;
+import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
+
+/**
+ * Warms responses of read-only calls to Perun's API before they are needed, e.g. when user
+ * hovers over menu item of a page. Calls made by {@link #run(Scheduler.ScheduledCommand)}
+ * are sent with {@link JsonScheduler.Priority#BACKGROUND} priority and their responses
+ * are kept in {@link JsonCache}, until the same call is made by the page or they expire.
+ *
+ * Time to live of warmed responses is configured by {@link PerunConfiguration#getRpcPrefetchTtl()}.
+ *
+ * Commands must make exactly the same calls (with the same parameters) as the page does.
+ * Calls made from callbacks of prefetched calls must be wrapped by {@link #run(Scheduler.ScheduledCommand)} again.
+ */
+public class JsonPrefetch {
+
+	private static boolean prefetching = false;
+
+	private JsonPrefetch() {
+	}
+
+	/**
+	 * Execute command, responses of all read-only calls made by it are kept until page needs them.
+	 * Does nothing, if prefetching is disabled in configuration.
+	 *
+	 * @param command command making calls
+	 */
+	public static void run(final Scheduler.ScheduledCommand command) {
+
+		if (!isEnabled()) return;
+
+		final boolean previous = prefetching;
+		prefetching = true;
+		try {
+			JsonScheduler.withPriority(JsonScheduler.Priority.BACKGROUND, command);
+		} finally {
+			prefetching = previous;
+		}
+
+	}
+
+	/**
+	 * Return TRUE if prefetching of calls is enabled in configuration.
+	 *
+	 * @return TRUE if enabled
+	 */
+	public static boolean isEnabled() {
+		return PerunConfiguration.getRpcPrefetchTtl() > 0;
+	}
+
+	/**
+	 * Return TRUE if calls made at the moment are prefetched.
+	 *
+	 * @return TRUE if prefetching
+	 */
+	static boolean isPrefetching() {
+		return prefetching;
+	}
+
+}
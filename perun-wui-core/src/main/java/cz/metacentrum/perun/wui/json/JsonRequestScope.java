@@ -0,0 +1,142 @@
+package cz.metacentrum.perun.wui.json;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.http.client.Request;
+import cz.metacentrum.perun.wui.model.PerunException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scope of calls to Perun's API, which can be cancelled at once, e.g. when presenter is hidden.
+ * Events passed to API calls must be wrapped by {@link #events(JsonEvents)} or {@link #latest(String, JsonEvents)}.
+ * <p/>
+ * Cancelled calls are aborted, if no other caller waits for the same response, and their
+ * events are never called, so late responses don't overwrite current content of the page.
+ * <p/>
+ * Usage in presenter:
+ * <pre>
+ * protected void onHide() {
+ *     super.onHide();
+ *     requestScope.cancelAll();
+ * }
+ * </pre>
+ */
+public class JsonRequestScope {
+
+	private final List<ScopedJsonEvents> pending = new ArrayList<>();
+	private final Map<String, ScopedJsonEvents> latest = new HashMap<>();
+
+	/**
+	 * Wrap events of a call, so it's cancelled together with the scope.
+	 *
+	 * @param events events of a call
+	 * @return events to pass to the call
+	 */
+	public JsonEvents events(JsonEvents events) {
+		ScopedJsonEvents scoped = new ScopedJsonEvents(null, events);
+		pending.add(scoped);
+		return scoped;
+	}
+
+	/**
+	 * Wrap events of a call, so it's cancelled together with the scope. Pending call made
+	 * with the same key is cancelled, so only the latest one is processed (e.g. search by typed text).
+	 *
+	 * @param key key of calls superseding each other
+	 * @param events events of a call
+	 * @return events to pass to the call
+	 */
+	public JsonEvents latest(String key, JsonEvents events) {
+		ScopedJsonEvents previous = latest.get(key);
+		if (previous != null) {
+			previous.cancel();
+		}
+		ScopedJsonEvents scoped = new ScopedJsonEvents(key, events);
+		pending.add(scoped);
+		latest.put(key, scoped);
+		return scoped;
+	}
+
+	/**
+	 * Cancel all pending calls of the scope.
+	 */
+	public void cancelAll() {
+		for (ScopedJsonEvents scoped : new ArrayList<>(pending)) {
+			scoped.cancel();
+		}
+	}
+
+	/**
+	 * Return TRUE if any call of the scope is pending.
+	 *
+	 * @return TRUE if call is pending
+	 */
+	public boolean isPending() {
+		return !pending.isEmpty();
+	}
+
+	/**
+	 * Remove finished or cancelled call from the scope.
+	 *
+	 * @param scoped events of a call
+	 */
+	private void remove(ScopedJsonEvents scoped) {
+		pending.remove(scoped);
+		if (scoped.key != null && latest.get(scoped.key) == scoped) {
+			latest.remove(scoped.key);
+		}
+	}
+
+	/**
+	 * Events of a call made within the scope. Request of the call is
+	 * set by {@link JsonClient} once call is sent.
+	 */
+	class ScopedJsonEvents implements JsonEvents {
+
+		private final String key;
+		private final JsonEvents events;
+		private Request request;
+		private boolean cancelled = false;
+
+		ScopedJsonEvents(String key, JsonEvents events) {
+			this.key = key;
+			this.events = events;
+		}
+
+		void setRequest(Request request) {
+			this.request = request;
+		}
+
+		void cancel() {
+			if (cancelled) return;
+			cancelled = true;
+			remove(this);
+			JsonClient.cancel(request, this);
+		}
+
+		@Override
+		public void onFinished(JavaScriptObject jso) {
+			if (cancelled) return;
+			remove(this);
+			events.onFinished(jso);
+		}
+
+		@Override
+		public void onError(PerunException error) {
+			if (cancelled) return;
+			remove(this);
+			events.onError(error);
+		}
+
+		@Override
+		public void onLoadingStart() {
+			if (cancelled) return;
+			events.onLoadingStart();
+		}
+
+	}
+
+}
@@ -0,0 +1,250 @@
+package cz.metacentrum.perun.wui.json;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.http.client.Request;
+import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
+import cz.metacentrum.perun.wui.model.common.PerunRequest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Limits number of calls to Perun's API sent at once, so bulk loading doesn't
+ * occupy all connections of the browser. Calls over the limit wait in queue and
+ * are sent in order of their priority, calls of the same priority in order they were made.
+ *
+ * Priority of calls is set by {@link #withPriority(Priority, Scheduler.ScheduledCommand)}
+ * for all calls made by the command, default priority is {@link Priority#INTERACTIVE}.
+ *
+ * Limit is configured by {@link PerunConfiguration#getRpcMaxConcurrency()}.
+ * Batch of calls sent by {@link JsonBatch} counts as one call.
+ */
+public class JsonScheduler {
+
+	/**
+	 * Priority of a call. Calls with higher priority are sent first.
+	 */
+	public enum Priority {
+
+		/**
+		 * Calls made on user's action (default).
+		 */
+		INTERACTIVE,
+
+		/**
+		 * Calls made on start of the application.
+		 */
+		BOOTSTRAP,
+
+		/**
+		 * Bulk loading of data, which are not immediately needed, e.g. fan-out of one call
+		 * per item of a list. Such calls wait in queue, so they don't block interactive calls
+		 * made meanwhile by the same or other page.
+		 */
+		BACKGROUND
+
+	}
+
+	/**
+	 * Call waiting in the queue.
+	 */
+	interface QueuedCall {
+
+		/**
+		 * Send call to Perun's API. Implementation must call {@link JsonScheduler#dispatch()} once response is received.
+		 *
+		 * @return request of the call or null if it couldn't be sent
+		 */
+		Request send();
+
+		/**
+		 * Return TRUE if response of the call (or any of grouped calls) is handled by events.
+		 *
+		 * @param events events of a call
+		 * @return TRUE if call has events
+		 */
+		boolean hasEvents(JsonEvents events);
+
+		/**
+		 * Stop sending call handled by events.
+		 *
+		 * @param events events of a call
+		 * @return TRUE if nothing is left to send and call can be removed from the queue
+		 */
+		boolean removeEvents(JsonEvents events);
+
+	}
+
+	private static final List<LinkedList<QueuedCall>> queues = new ArrayList<>();
+	private static final List<Request> running = new ArrayList<>();
+	private static Priority currentPriority = Priority.INTERACTIVE;
+
+	static {
+		for (int i=0; i<Priority.values().length; i++) {
+			queues.add(new LinkedList<QueuedCall>());
+		}
+	}
+
+	private JsonScheduler() {
+	}
+
+	/**
+	 * Execute command, all calls to Perun's API made by it have specified priority.
+	 *
+	 * @param priority priority of calls
+	 * @param command command making calls
+	 */
+	public static void withPriority(Priority priority, Scheduler.ScheduledCommand command) {
+
+		Priority previous = currentPriority;
+		currentPriority = priority;
+		try {
+			command.execute();
+		} finally {
+			currentPriority = previous;
+		}
+
+	}
+
+	/**
+	 * Return priority of calls made at the moment.
+	 *
+	 * @return current priority
+	 */
+	static Priority getCurrentPriority() {
+		return currentPriority;
+	}
+
+	/**
+	 * Return number of calls waiting in queue.
+	 *
+	 * @return number of waiting calls
+	 */
+	public static int getQueueLength() {
+		int length = 0;
+		for (LinkedList<QueuedCall> queue : queues) {
+			length += queue.size();
+		}
+		return length;
+	}
+
+	/**
+	 * Send call now, if limit is not reached, otherwise put it to the queue.
+	 *
+	 * @param client client which made the call and handles its response
+	 * @param url URL of a call (manager/method)
+	 * @param perunRequest request info of a call
+	 * @param data payload of a call in textual form
+	 * @param cacheable TRUE if response should be stored in cache
+	 * @param priority priority of a call
+	 */
+	static void schedule(JsonClient client, String url, PerunRequest perunRequest, String data, boolean cacheable, Priority priority) {
+		schedule(new ClientCall(client, url, perunRequest, data, cacheable), priority);
+	}
+
+	/**
+	 * Send call now, if limit is not reached, otherwise put it to the queue.
+	 *
+	 * @param call call to send
+	 * @param priority priority of a call
+	 */
+	static void schedule(QueuedCall call, Priority priority) {
+
+		queues.get(priority.ordinal()).add(call);
+		dispatch();
+
+	}
+
+	/**
+	 * Remove waiting call from the queue.
+	 *
+	 * @param events events of a call
+	 * @return TRUE if call was removed
+	 */
+	static boolean remove(JsonEvents events) {
+
+		for (LinkedList<QueuedCall> queue : queues) {
+			Iterator<QueuedCall> iterator = queue.iterator();
+			while (iterator.hasNext()) {
+				QueuedCall call = iterator.next();
+				if (call.hasEvents(events)) {
+					if (call.removeEvents(events)) iterator.remove();
+					return true;
+				}
+			}
+		}
+		return false;
+
+	}
+
+	/**
+	 * Send waiting calls while limit is not reached. Must be called when any call finishes or is cancelled.
+	 */
+	static void dispatch() {
+
+		Iterator<Request> iterator = running.iterator();
+		while (iterator.hasNext()) {
+			if (!iterator.next().isPending()) iterator.remove();
+		}
+
+		int limit = PerunConfiguration.getRpcMaxConcurrency();
+		while (limit <= 0 || running.size() < limit) {
+			QueuedCall call = poll();
+			if (call == null) return;
+			Request request = call.send();
+			if (request != null && request.isPending()) running.add(request);
+		}
+
+	}
+
+	/**
+	 * Take first waiting call with the highest priority.
+	 *
+	 * @return waiting call or null if queue is empty
+	 */
+	private static QueuedCall poll() {
+		for (LinkedList<QueuedCall> queue : queues) {
+			if (!queue.isEmpty()) return queue.removeFirst();
+		}
+		return null;
+	}
+
+	/**
+	 * Single call of a client waiting in the queue.
+	 */
+	private static class ClientCall implements QueuedCall {
+
+		private final JsonClient client;
+		private final String url;
+		private final PerunRequest perunRequest;
+		private final String data;
+		private final boolean cacheable;
+
+		ClientCall(JsonClient client, String url, PerunRequest perunRequest, String data, boolean cacheable) {
+			this.client = client;
+			this.url = url;
+			this.perunRequest = perunRequest;
+			this.data = data;
+			this.cacheable = cacheable;
+		}
+
+		@Override
+		public Request send() {
+			return client.dispatch(url, perunRequest, data, cacheable);
+		}
+
+		@Override
+		public boolean hasEvents(JsonEvents events) {
+			return client.getEvents() == events;
+		}
+
+		@Override
+		public boolean removeEvents(JsonEvents events) {
+			return true;
+		}
+
+	}
+
+}
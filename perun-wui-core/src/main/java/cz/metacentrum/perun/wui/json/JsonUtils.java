@@ -2,6 +2,7 @@ package cz.metacentrum.perun.wui.json;
 
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONValue;
 
@@ -16,20 +17,37 @@ import java.util.Map;
  */
 public class JsonUtils {
 
+	// number of characters of JSON scanned in one slice of incremental parsing
+	private static final int INCREMENTAL_PARSING_CHUNK_SIZE = 256 * 1024;
+
+	/**
+	 * Callback of incremental parsing of JSON.
+	 */
+	public interface IncrementalParsingCallback {
+
+		/**
+		 * Called once whole JSON is parsed.
+		 *
+		 * @param jso parsed JavaScriptObject
+		 */
+		void onParsed(JavaScriptObject jso);
+
+	}
+
 	/**
-	 * Parses a string in JSON format (with trusted content) and cast it into JsArray<JavaScriptObject>.
-	 * Standard eval() is used to parse string.
+	 * Parses a string in JSON format and cast it into JsArray<JavaScriptObject>.
+	 * Native JSON.parse() is used to parse string.
 	 *
 	 * @param json string to parse
 	 * @return array of objects contained in input JSON string
 	 */
 	public static final native <T extends JavaScriptObject> JsArray<T> jsonAsArray(String json) /*-{
-		return eval(json);
+		return JSON.parse(json);
 	}-*/;
 
 	/**
 	 * Parses a string in JSON format (with trusted content) and cast it into JavaScriptObject.
-	 * jQuery.parseJSON() is used to parse string.
+	 * Native JSON.parse() is used to parse string.
 	 * If string is not in JSON format, the returned JavaScriptObject is {@link cz.metacentrum.perun.wui.model.BasicOverlayObject BasicOverlayObject}.
 	 *
 	 * @param json that you trust
@@ -37,16 +55,124 @@ public class JsonUtils {
 	 */
 	public static final native JavaScriptObject parseJson(String json) /*-{
 		try {
-			var response = $wnd.jQuery.parseJSON(json);
-			if (typeof response === 'object') {
+			var response = JSON.parse(json);
+			if (response !== null && typeof response === 'object') {
 				return response;
 			}
 			// if returned value is not json object
 			return {"value": response};
 		} catch (err) {
 			// if parsing fails, return raw data wrapped in BasicOverlayObject
-			return {"value": response};
+			return {"value": json};
+		}
+	}-*/;
+
+	/**
+	 * Parses a string in JSON format (with trusted content) in slices of time, so big responses
+	 * don't block the browser. Top-level JSON array is parsed item by item, only the text
+	 * of a single item is copied at once. Any other JSON (or malformed array) is parsed
+	 * by {@link #parseJson(String)} at once.
+	 *
+	 * @param json that you trust
+	 * @param callback callback to pass parsed JavaScriptObject to
+	 */
+	public static final void parseJsonIncrementally(final String json, final IncrementalParsingCallback callback) {
+
+		final JavaScriptObject state = createParsingState(json);
+		if (state == null) {
+			callback.onParsed(parseJson(json));
+			return;
 		}
+
+		Scheduler.get().scheduleIncremental(new Scheduler.RepeatingCommand() {
+			@Override
+			public boolean execute() {
+				if (parseChunk(state, INCREMENTAL_PARSING_CHUNK_SIZE)) return true;
+				callback.onParsed(isParsingFailed(state) ? parseJson(json) : getParsingResult(state));
+				return false;
+			}
+		});
+
+	}
+
+	/**
+	 * Create state of incremental parsing of a JSON array.
+	 *
+	 * @param json string to parse
+	 * @return state of parsing or null if string is not a JSON array
+	 */
+	private static final native JavaScriptObject createParsingState(String json) /*-{
+		var pos = 0;
+		while (pos < json.length && json.charCodeAt(pos) <= 32) pos++;
+		if (json.charAt(pos) !== '[') return null;
+		return {"text": json, "pos": pos + 1, "start": pos + 1, "depth": 1, "inString": false, "escaped": false, "failed": false, "result": []};
+	}-*/;
+
+	/**
+	 * Scan next chunk of JSON array and parse each top-level item found in it.
+	 *
+	 * @param state state of parsing
+	 * @param chunkSize number of characters to scan
+	 * @return TRUE if there is more to scan
+	 */
+	private static final native boolean parseChunk(JavaScriptObject state, int chunkSize) /*-{
+		var text = state.text;
+		var pos = state.pos;
+		var end = Math.min(text.length, pos + chunkSize);
+		var depth = state.depth;
+		var inString = state.inString;
+		var escaped = state.escaped;
+		try {
+			for (; pos < end; pos++) {
+				var c = text.charCodeAt(pos);
+				if (inString) {
+					if (escaped) {
+						escaped = false;
+					} else if (c === 92) {
+						escaped = true;
+					} else if (c === 34) {
+						inString = false;
+					}
+				} else if (c === 34) {
+					inString = true;
+				} else if (c === 123 || c === 91) {
+					depth++;
+				} else if (c === 125 || c === 93) {
+					depth--;
+					if (depth === 0) {
+						var last = text.substring(state.start, pos);
+						if (/\S/.test(last)) state.result.push(JSON.parse(last));
+						// everything after closing bracket must be whitespace
+						state.failed = /\S/.test(text.substring(pos + 1));
+						return false;
+					}
+				} else if (c === 44 && depth === 1) {
+					state.result.push(JSON.parse(text.substring(state.start, pos)));
+					state.start = pos + 1;
+				}
+			}
+		} catch (err) {
+			state.failed = true;
+			return false;
+		}
+		state.pos = pos;
+		state.depth = depth;
+		state.inString = inString;
+		state.escaped = escaped;
+		if (pos >= text.length) {
+			// array was not closed
+			state.failed = true;
+			return false;
+		}
+		return true;
+	}-*/;
+
+	private static final native boolean isParsingFailed(JavaScriptObject state) /*-{
+		return state.failed;
+	}-*/;
+
+	private static final native JavaScriptObject getParsingResult(JavaScriptObject state) /*-{
+		return state.result;
 	}-*/;
 
 	/**
@@ -71,6 +71,7 @@ public class UsersManager {
 	public static Request getRichUsersWithoutVoAssigned(JsonEvents events){
 
 		JsonClient client = new JsonClient(events);
+		client.setIncrementalParsing(true);
 		return client.call(USERS_MANAGER + "getRichUsersWithoutVoAssigned");
 	}
 
@@ -104,6 +105,7 @@ public class UsersManager {
 		JsonClient client = new JsonClient(events);
 		client.put("attrsNames", attrNames);
 		client.put("includedSpecificUsers", includedSpecificUsers);
+		client.setIncrementalParsing(true);
 		return client.call(USERS_MANAGER + "getRichUsersWithAttributes");
 
 	}
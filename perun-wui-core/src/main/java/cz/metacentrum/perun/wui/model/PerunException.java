@@ -5,7 +5,7 @@ import com.google.gwt.json.client.JSONObject;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.model.beans.*;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Overlay type for PerunException object from Perun.
@@ -129,8 +129,8 @@ public class PerunException extends JavaScriptObject {
 		return JsUtils.getNativePropertyString(this, "expirationDate");
 	}
 
-	public final ArrayList<ApplicationFormItemData> getFormItems() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "formItems"));
+	public final List<ApplicationFormItemData> getFormItems() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "formItems"));
 	}
 
 	/**
@@ -194,8 +194,8 @@ public class PerunException extends JavaScriptObject {
 		this.application = application;
 	}-*/;
 
-	public final ArrayList<ApplicationFormItemData> getApplicationData() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "applicationData"));
+	public final List<ApplicationFormItemData> getApplicationData() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "applicationData"));
 	}
 
 	public final Attribute getAttribute() {
@@ -108,8 +108,8 @@ public class Author extends User {
 	 *
 	 * @return all Author's authorships
 	 */
-	public final ArrayList<Authorship> getAuthorships() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "authorships"));
+	public final List<Authorship> getAuthorships() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "authorships"));
 	}
 
 	/**
@@ -150,8 +150,8 @@ public class Author extends User {
 	 *
 	 * @return UserExtSources stored inside the Author
 	 */
-	private final ArrayList<UserExtSource> getUserExtSources() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "logins"));
+	private final List<UserExtSource> getUserExtSources() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "logins"));
 	}
 
 	/**
@@ -171,7 +171,7 @@ public class Author extends User {
 	 * @return All attributes related to Author
 	 */
 	public final List<Attribute> getAttributes(){
-        return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "attributes"));
+        return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "attributes"));
 	}
 
 	/**
@@ -7,6 +7,7 @@ import cz.metacentrum.perun.wui.model.GeneralObject;
 import cz.metacentrum.perun.wui.model.resources.PerunComparator;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Collections;
 
 /**
@@ -70,9 +71,9 @@ public class Facility extends GeneralObject {
 	 *
 	 * @return owners of Facility
 	 */
-	public final ArrayList<Owner> getOwners() {
+	public final List<Owner> getOwners() {
 
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "facilityOwners"));
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "facilityOwners"));
 
 	}
 
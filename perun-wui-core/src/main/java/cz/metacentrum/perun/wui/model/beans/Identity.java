@@ -4,7 +4,7 @@ import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * OverlayType for Identity object
@@ -56,9 +56,9 @@ public class Identity extends JavaScriptObject {
 	 *
 	 * @return external identities
 	 */
-	public final ArrayList<ExtSource> getExternalIdentities() {
+	public final List<ExtSource> getExternalIdentities() {
 
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this,"identities"));
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this,"identities"));
 
 	}
 
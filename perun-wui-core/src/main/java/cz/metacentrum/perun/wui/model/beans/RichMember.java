@@ -72,8 +72,8 @@ public class RichMember extends Member {
 	 *
 	 * @return User attributes of RichMember
 	 */
-	public final ArrayList<Attribute> getUserAttributes() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"));
+	public final List<Attribute> getUserAttributes() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "userAttributes"));
 	}
 
 	/**
@@ -97,8 +97,8 @@ public class RichMember extends Member {
 	 *
 	 * @return Member attributes of RichMember
 	 */
-	public final ArrayList<Attribute> getMemberAttributes() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "memberAttributes"));
+	public final List<Attribute> getMemberAttributes() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "memberAttributes"));
 	}
 
 	/**
@@ -123,13 +123,9 @@ public class RichMember extends Member {
 	public final Attribute getAttribute(String urn) {
 
 		if (urn.startsWith("urn:perun:user")) {
-			for (Attribute a : getUserAttributes()) {
-				if (a.getURN().equals(urn)) return a;
-			}
+			return JsUtils.getAttributeByUrn(this, "userAttributes", urn);
 		} else if (urn.startsWith("urn:perun:member")) {
-			for (Attribute a : getMemberAttributes()) {
-				if (a.getURN().equals(urn)) return a;
-			}
+			return JsUtils.getAttributeByUrn(this, "memberAttributes", urn);
 		}
 		return null;
 
@@ -154,31 +150,26 @@ public class RichMember extends Member {
         if (this.memberAttributes == null) {
             this.memberAttributes = [];
         }
-        var found = false;
         if (attribute.namespace.indexOf("urn:perun:user:") !== -1) {
             // set user attribute
-            for (var i in this.userAttributes) {
-                if (this.userAttributes[i].namespace == attribute.namespace && this.userAttributes[i].friendlyName == attribute.friendlyName) {
-                    this.userAttributes[i].value = attribute.value;
-                    found = true;
-                }
-            }
-            if (!found) {
+            var found = @cz.metacentrum.perun.wui.client.utils.JsUtils::getAttributeByUrn(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;Ljava/lang/String;)(this, "userAttributes", attribute.namespace + ":" + attribute.friendlyName);
+            if (found != null) {
+                found.value = attribute.value;
+            } else {
                 // put whole attribute
                 this.userAttributes[this.userAttributes.length] = attribute;
             }
+            @cz.metacentrum.perun.wui.client.utils.JsUtils::invalidateAttributeIndex(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(this, "userAttributes");
         } else if (attribute.namespace.indexOf("urn:perun:member:") !== -1) {
             // set member attribute
-            for (var i in this.memberAttributes) {
-                if (this.memberAttributes[i].namespace == attribute.namespace && this.memberAttributes[i].friendlyName == attribute.friendlyName) {
-                    this.memberAttributes[i].value = attribute.value;
-                    found = true;
-                }
-            }
-            if (!found) {
+            found = @cz.metacentrum.perun.wui.client.utils.JsUtils::getAttributeByUrn(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;Ljava/lang/String;)(this, "memberAttributes", attribute.namespace + ":" + attribute.friendlyName);
+            if (found != null) {
+                found.value = attribute.value;
+            } else {
                 // put whole attribute
                 this.memberAttributes[this.memberAttributes.length] = attribute;
             }
+            @cz.metacentrum.perun.wui.client.utils.JsUtils::invalidateAttributeIndex(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(this, "memberAttributes");
         }
     }-*/;
 
@@ -194,7 +185,9 @@ public class RichMember extends Member {
 	public final String getUserLogins() {
 
 		ArrayList<String> list = new ArrayList<>();
-		for (Attribute a : JsUtils.<Attribute>jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"))) {
+		JsArray<Attribute> attributes = JsUtils.jsoAsArray(JsUtils.getNativePropertyArray(this, "userAttributes"));
+		for (int i=0; i<attributes.length(); i++) {
+			Attribute a = attributes.get(i);
 			if (a.getBaseFriendlyName().equals("login-namespace")) {
 				if (a.getValue() != null) list.add(a.getFriendlyNameParameter() + ": " + a.getValue());
 			}
@@ -210,7 +203,7 @@ public class RichMember extends Member {
 	 * @return UserExtSources
 	 */
 	public final List<UserExtSource> getUserExtSources(){
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "userExtSources"));
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "userExtSources"));
 	}
 
 	/**
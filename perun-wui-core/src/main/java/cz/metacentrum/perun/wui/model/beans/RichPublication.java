@@ -5,6 +5,7 @@ import cz.metacentrum.perun.wui.client.utils.Utils;
 import cz.metacentrum.perun.wui.model.resources.PerunComparator;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Collections;
 
 /**
@@ -25,8 +26,8 @@ public class RichPublication extends Publication {
 	 *
 	 * @return Thanks associated with this Publication
 	 */
-	public final ArrayList<RichThanks> getThanks() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "thanks"));
+	public final List<RichThanks> getThanks() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "thanks"));
 	}
 
 	/**
@@ -61,8 +62,8 @@ public class RichPublication extends Publication {
 	 *
 	 * @return list of Authors
 	 */
-	public final ArrayList<Author> getAuthors() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "authors"));
+	public final List<Author> getAuthors() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "authors"));
 	}
 
 	/**
@@ -4,7 +4,6 @@ import com.google.gwt.core.client.JsArray;
 import com.google.gwt.json.client.JSONObject;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -82,8 +81,8 @@ public class RichResource extends Resource {
 	 *
 	 * @return list of ResourceTags associated with this resource
 	 */
-	public final ArrayList<ResourceTag> getResourceTags() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "resourceTags"));
+	public final List<ResourceTag> getResourceTags() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "resourceTags"));
 	}
 
 	/**
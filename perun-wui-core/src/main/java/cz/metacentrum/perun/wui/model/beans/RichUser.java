@@ -61,8 +61,8 @@ public class RichUser extends User {
 	 *
 	 * @return User attributes of RichUser
 	 */
-	public final ArrayList<Attribute> getUserAttributes() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"));
+	public final List<Attribute> getUserAttributes() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "userAttributes"));
 	}
 
 	/**
@@ -90,10 +90,7 @@ public class RichUser extends User {
 	 * @return user attribute or null if not present
 	 */
 	public final Attribute getAttribute(String urn) {
-		for (Attribute a : JsUtils.<Attribute>jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"))) {
-			if (a.getURN().equals(urn)) return a;
-		}
-		return null;
+		return JsUtils.getAttributeByUrn(this, "userAttributes", urn);
 	}
 
 	/**
@@ -112,19 +109,16 @@ public class RichUser extends User {
         if (this.userAttributes == null) {
             this.userAttributes = [];
         }
-        var found = false;
         if (attribute.namespace.indexOf("urn:perun:user:") !== -1) {
             // set user attribute
-            for (var i in this.userAttributes) {
-                if (this.userAttributes[i].namespace == attribute.namespace && this.userAttributes[i].friendlyName == attribute.friendlyName) {
-                    this.userAttributes[i].value = attribute.value;
-                    found = true;
-                }
-            }
-            if (!found) {
+            var found = @cz.metacentrum.perun.wui.client.utils.JsUtils::getAttributeByUrn(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;Ljava/lang/String;)(this, "userAttributes", attribute.namespace + ":" + attribute.friendlyName);
+            if (found != null) {
+                found.value = attribute.value;
+            } else {
                 // put whole attribute
                 this.userAttributes[this.userAttributes.length] = attribute;
             }
+            @cz.metacentrum.perun.wui.client.utils.JsUtils::invalidateAttributeIndex(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(this, "userAttributes");
         }
     }-*/;
 
@@ -140,7 +134,9 @@ public class RichUser extends User {
 	public final String getLogins() {
 
 		ArrayList<String> list = new ArrayList<>();
-		for (Attribute a : JsUtils.<Attribute>jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"))) {
+		JsArray<Attribute> attributes = JsUtils.jsoAsArray(JsUtils.getNativePropertyArray(this, "userAttributes"));
+		for (int i=0; i<attributes.length(); i++) {
+			Attribute a = attributes.get(i);
 			if (a.getBaseFriendlyName().equals("login-namespace")) {
 				if (a.getValue() != null) list.add(a.getFriendlyNameParameter() + ": " + a.getValue());
 			}
@@ -156,12 +152,8 @@ public class RichUser extends User {
 	 * @return users mail
 	 */
 	public final String getPreferredEmail() {
-		for (Attribute a : JsUtils.<Attribute>jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"))) {
-			if (a.getFriendlyName().equals("preferredMail")) {
-				return a.getValue();
-			}
-		}
-		return null;
+		Attribute a = JsUtils.getAttributeByFriendlyName(this, "userAttributes", "preferredMail");
+		return (a != null) ? a.getValue() : null;
 	}
 
 	/**
@@ -170,12 +162,8 @@ public class RichUser extends User {
 	 * @return users organization
 	 */
 	public final String getOrganization() {
-		for (Attribute a : JsUtils.<Attribute>jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"))) {
-			if (a.getFriendlyName().equals("organization")) {
-				return a.getValue();
-			}
-		}
-		return null;
+		Attribute a = JsUtils.getAttributeByFriendlyName(this, "userAttributes", "organization");
+		return (a != null) ? a.getValue() : null;
 	}
 
 	/**
@@ -184,12 +172,8 @@ public class RichUser extends User {
 	 * @return preferred language
 	 */
 	public final String getPreferredLanguage() {
-		for (Attribute a : JsUtils.<Attribute>jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"))) {
-			if (a.getFriendlyName().equals("preferredLanguage")) {
-				return a.getValue();
-			}
-		}
-		return null;
+		Attribute a = JsUtils.getAttributeByFriendlyName(this, "userAttributes", "preferredLanguage");
+		return (a != null) ? a.getValue() : null;
 	}
 
 	/**
@@ -198,12 +182,8 @@ public class RichUser extends User {
 	 * @return preferred language
 	 */
 	public final String getTimezone() {
-		for (Attribute a : JsUtils.<Attribute>jsoAsList(JsUtils.getNativePropertyArray(this, "userAttributes"))) {
-			if (a.getFriendlyName().equals("timezone")) {
-				return a.getValue();
-			}
-		}
-		return null;
+		Attribute a = JsUtils.getAttributeByFriendlyName(this, "userAttributes", "timezone");
+		return (a != null) ? a.getValue() : null;
 	}
 
 	/**
@@ -212,7 +192,7 @@ public class RichUser extends User {
 	 * @return UserExtSources
 	 */
 	public final List<UserExtSource> getUserExtSources(){
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "userExtSources"));
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "userExtSources"));
 	}
 
 	/**
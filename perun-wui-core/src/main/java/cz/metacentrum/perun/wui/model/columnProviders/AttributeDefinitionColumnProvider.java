@@ -65,43 +65,50 @@ public class AttributeDefinitionColumnProvider extends ColumnProvider<AttributeD
 
 	@Override
 	public PerunDataGrid.PerunFilterEvent<AttributeDefinition> getDefaultFilterEvent() {
-		return new PerunDataGrid.PerunFilterEvent<AttributeDefinition>() {
+
+		return new PerunDataGrid.PerunIndexedFilterEvent<AttributeDefinition>() {
 			@Override
 			public boolean filterOnObject(Set<PerunColumnType> columnTypeSet, String text, AttributeDefinition object) {
-
 				if (object == null || text == null) return false;
 
 				if (columnTypeSet == null || columnTypeSet.isEmpty()) {
-					columnTypeSet = new HashSet<PerunColumnType>(Arrays.asList(PerunColumnType.NAME, PerunColumnType.ATTR_URN));
+					columnTypeSet = getDefaultColumnsToFilterBy();
 				}
 				for (PerunColumnType columnType : columnTypeSet) {
-					if (columnType.equals(PerunColumnType.ID) && Integer.toString(object.getId()).contains(text)) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.NAME) && object.getName() != null &&
-							object.getName().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.ATTR_FRIENDLY_NAME) && object.getFriendlyName() != null &&
-							object.getFriendlyName().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.ATTR_ENTITY) && object.getEntity() != null &&
-							object.getEntity().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.ATTR_DEF) && object.getDefinition() != null &&
-							object.getDefinition().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.ATTR_TYPE) && object.getType() != null &&
-							object.getType().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.DESCRIPTION) && object.getDescription() != null &&
-							object.getDescription().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.ATTR_URN) && object.getURN() != null &&
-							object.getURN().toLowerCase().contains(text.toLowerCase())) {
+					String value = getFilterValue(columnType, object);
+					if (value != null && value.toLowerCase().contains(text.toLowerCase())) {
 						return true;
 					}
 				}
 				return false;
 			}
+
+			@Override
+			public Set<PerunColumnType> getDefaultColumnsToFilterBy() {
+				return new HashSet<PerunColumnType>(Arrays.asList(PerunColumnType.NAME, PerunColumnType.ATTR_URN));
+			}
+
+			@Override
+			public String getFilterValue(PerunColumnType columnType, AttributeDefinition object) {
+				if (columnType.equals(PerunColumnType.ID)) {
+					return Integer.toString(object.getId());
+				} else if (columnType.equals(PerunColumnType.NAME)) {
+					return object.getName();
+				} else if (columnType.equals(PerunColumnType.ATTR_FRIENDLY_NAME)) {
+					return object.getFriendlyName();
+				} else if (columnType.equals(PerunColumnType.ATTR_ENTITY)) {
+					return object.getEntity();
+				} else if (columnType.equals(PerunColumnType.ATTR_DEF)) {
+					return object.getDefinition();
+				} else if (columnType.equals(PerunColumnType.ATTR_TYPE)) {
+					return object.getType();
+				} else if (columnType.equals(PerunColumnType.DESCRIPTION)) {
+					return object.getDescription();
+				} else if (columnType.equals(PerunColumnType.ATTR_URN)) {
+					return object.getURN();
+				}
+				return null;
+			}
 		};
 	}
 
@@ -60,35 +60,45 @@ public class RichUserColumnProvider extends ColumnProvider<RichUser> {
 	@Override
 	public PerunDataGrid.PerunFilterEvent<RichUser> getDefaultFilterEvent() {
 
-		return new PerunDataGrid.PerunFilterEvent<RichUser>() {
+		return new PerunDataGrid.PerunIndexedFilterEvent<RichUser>() {
 			@Override
 			public boolean filterOnObject(Set<PerunColumnType> columnTypeSet, String text, RichUser object) {
 				if (object == null || text == null) return false;
 
 				if (columnTypeSet == null || columnTypeSet.isEmpty()) {
-					columnTypeSet = new HashSet<PerunColumnType>(Arrays.asList(PerunColumnType.NAME));
+					columnTypeSet = getDefaultColumnsToFilterBy();
 				}
 				for (PerunColumnType columnType : columnTypeSet) {
-					if (columnType.equals(PerunColumnType.ID) && Integer.toString(object.getId()).contains(text)) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.NAME) && object.getName() != null &&
-							object.getName().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.USER_EMAIL) && object.getPreferredEmail() != null &&
-							object.getPreferredEmail().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.USER_ORGANIZATION) && object.getOrganization() != null &&
-							object.getOrganization().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.USER_LOGIN) && object.getLogins().toLowerCase().contains(text.toLowerCase())) {
-						return true;
-					} else if (columnType.equals(PerunColumnType.USER_TYPE) &&
-							String.valueOf(object.isServiceUser()).toLowerCase().contains(text.toLowerCase())) {
+					String value = getFilterValue(columnType, object);
+					if (value != null && value.toLowerCase().contains(text.toLowerCase())) {
 						return true;
 					}
 				}
 				return false;
 			}
+
+			@Override
+			public Set<PerunColumnType> getDefaultColumnsToFilterBy() {
+				return new HashSet<PerunColumnType>(Arrays.asList(PerunColumnType.NAME));
+			}
+
+			@Override
+			public String getFilterValue(PerunColumnType columnType, RichUser object) {
+				if (columnType.equals(PerunColumnType.ID)) {
+					return Integer.toString(object.getId());
+				} else if (columnType.equals(PerunColumnType.NAME)) {
+					return object.getName();
+				} else if (columnType.equals(PerunColumnType.USER_EMAIL)) {
+					return object.getPreferredEmail();
+				} else if (columnType.equals(PerunColumnType.USER_ORGANIZATION)) {
+					return object.getOrganization();
+				} else if (columnType.equals(PerunColumnType.USER_LOGIN)) {
+					return object.getLogins();
+				} else if (columnType.equals(PerunColumnType.USER_TYPE)) {
+					return String.valueOf(object.isServiceUser());
+				}
+				return null;
+			}
 		};
 	}
 
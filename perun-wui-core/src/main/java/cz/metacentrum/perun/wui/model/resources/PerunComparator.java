@@ -7,17 +7,31 @@ import cz.metacentrum.perun.wui.model.beans.*;
 import cz.metacentrum.perun.wui.widgets.resources.PerunColumnType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Comparator for any Peruns object - it makes a GeneralObject from them.
  *
+ * Objects are compared by sort key extracted for the column. When sorting whole
+ * list, use {@link #sort(List, boolean)}, which extracts key of each object only once.
+ *
  * @author Vaclav Mach <374430@mail.muni.cz>
  * @author Pavel Zlámal <zlamal@cesnet.cz>
  */
 public class PerunComparator<T extends JavaScriptObject> implements Comparator<T> {
 
+	private static JavaScriptObject collator;
+
+	private static final Comparator<String> nativeComparator = new Comparator<String>() {
+		@Override
+		public int compare(String o1, String o2) {
+			return nativeCompare(o1, o2);
+		}
+	};
+
 	private PerunColumnType column;
 
 	/**
@@ -36,28 +50,38 @@ public class PerunComparator<T extends JavaScriptObject> implements Comparator<T
 	 * @param o2 string to compare with
 	 * @return comparison result used in comparators
 	 */
-	public static final native int nativeCompare(String o1, String o2) /*-{
+	public static final int nativeCompare(String o1, String o2) {
 		if (o1 == null && o2 != null) return -1;
 		if (o2 == null && o1 != null) return 1;
 		if (o1 == null && o2 == null) return 0;
-		return o1.localeCompare(o2);
+		if (collator == null) collator = createCollator();
+		return collatorCompare(collator, o1, o2);
+	}
+
+	/**
+	 * Create Intl.Collator for browser's locale. If not supported by browser,
+	 * object with compare() function using localeCompare() is returned.
+	 *
+	 * @return collator
+	 */
+	private static final native JavaScriptObject createCollator() /*-{
+		if ($wnd.Intl && typeof $wnd.Intl.Collator === 'function') {
+			return new $wnd.Intl.Collator();
+		}
+		return { compare: function(o1, o2) { return o1.localeCompare(o2); } };
+	}-*/;
+
+	private static final native int collatorCompare(JavaScriptObject collator, String o1, String o2) /*-{
+		return collator.compare(o1, o2);
 	}-*/;
 
 	/**
-	 * Return Comparator<String> which uses browser's localeCompare().
+	 * Return Comparator<String> which uses browser's locale settings.
 	 *
 	 * @return localized Comparator<String>
 	 */
 	public static final Comparator<String> getNativeComparator() {
-		return new Comparator<String>() {
-			@Override
-			public int compare(String o1, String o2) {
-				if (o1 == null && o2 != null) return -1;
-				if (o2 == null && o1 != null) return 1;
-				if (o1 == null && o2 == null) return 0;
-				return nativeCompare(o1, o2);
-			}
-		};
+		return nativeComparator;
 	}
 
 	/**
@@ -72,374 +96,218 @@ public class PerunComparator<T extends JavaScriptObject> implements Comparator<T
 		if (obj1 == null && obj2 != null) return -1;
 		if (obj2 == null && obj1 != null) return 1;
 		if (obj1 == null && obj2 == null) return 0;
+		if (column == null) return 0;
 
-		GeneralObject o1 = obj1.cast();
-		GeneralObject o2 = obj2.cast();
-
-		if (PerunColumnType.ID.equals(this.column)) return this.compareById(o1, o2);
-		if (PerunColumnType.NAME.equals(this.column)) return this.compareByName(o1, o2);
-		if (PerunColumnType.DESCRIPTION.equals(this.column)) return this.compareByDescription(o1, o2);
-
-		if (PerunColumnType.CREATED_AT.equals(this.column)) return this.compareByCreatedAt(o1, o2);
-		if (PerunColumnType.MODIFIED_AT.equals(this.column)) return this.compareByModifiedAt(o1, o2);
-		if (PerunColumnType.CREATED_BY.equals(this.column)) return this.compareByCreatedBy(o1, o2);
-		if (PerunColumnType.MODIFIED_BY.equals(this.column)) return this.compareByModifiedBy(o1, o2);
-
-		// ATTR columns
-		if (PerunColumnType.ATTR_DEF.equals(this.column))
-			return getNativeComparator().compare(((AttributeDefinition) o1).getDefinition(), ((AttributeDefinition) o2).getDefinition());
-		if (PerunColumnType.ATTR_ENTITY.equals(this.column))
-			return getNativeComparator().compare(((AttributeDefinition) o1).getEntity(), ((AttributeDefinition) o2).getEntity());
-		if (PerunColumnType.ATTR_TYPE.equals(this.column))
-			return getNativeComparator().compare(((AttributeDefinition)o1).getType(), ((AttributeDefinition)o2).getType());
-		if (PerunColumnType.ATTR_FRIENDLY_NAME.equals(this.column))
-			return getNativeComparator().compare(((AttributeDefinition) o1).getFriendlyName(), ((AttributeDefinition) o2).getFriendlyName());
-
-		// VO columns
-		if (PerunColumnType.VO_SHORT_NAME.equals(this.column)) return this.compareByShortName(o1, o2);
-
-		// Facility columns
-		if (PerunColumnType.FACILITY_OWNERS.equals(this.column)) return this.compareByOwnersNames(o1, o2);
-
-		// Owner
-		if (PerunColumnType.OWNER_TYPE.equals(this.column))
-			return getNativeComparator().compare(((Owner) o1).getType(), ((Owner) o2).getType());
-		if (PerunColumnType.OWNER_CONTACT.equals(this.column))
-			return getNativeComparator().compare(((Owner) o1).getContact(), ((Owner) o2).getContact());
-
-		// ExtSource columns
-		if (PerunColumnType.EXT_SOURCE_TYPE.equals(this.column))
-			return getNativeComparator().compare(((ExtSource) o1).getType(), ((ExtSource) o2).getType());
-
-		// Rich User
-		if (PerunColumnType.USER_ORGANIZATION.equals(this.column))
-			return getNativeComparator().compare(((RichUser) o1).getOrganization(), ((RichUser) o2).getOrganization());
-		if (PerunColumnType.USER_EMAIL.equals(this.column))
-			return getNativeComparator().compare(((RichUser) o1).getPreferredEmail(), ((RichUser) o2).getPreferredEmail());
-		if (PerunColumnType.USER_LOGIN.equals(this.column))
-			return getNativeComparator().compare(((RichUser) o1).getLogins(), ((RichUser) o2).getLogins());
-
-		// Application columns
-		if (PerunColumnType.APPLICATION_USER.equals(this.column)) return this.compareByApplicationUser(o1, o2);
-		if (PerunColumnType.APPLICATION_STATE.equals(this.column)) return this.compareByApplicationState(o1, o2);
-		if (PerunColumnType.APPLICATION_TYPE.equals(this.column)) return this.compareByApplicationType(o1, o2);
-		if (PerunColumnType.APPLICATION_VO_NAME.equals(this.column)) return this.compareByApplicationVoName(o1, o2);
-		if (PerunColumnType.APPLICATION_GROUP_NAME.equals(this.column)) return this.compareByApplicationGroupName(o1, o2);
-		if (PerunColumnType.APPLICATION_LOA.equals(this.column)) return this.compareByApplicationLoA(o1, o2);
-
-		// Publication columns
-		if (PerunColumnType.PUBLICATION_YEAR.equals(this.column)) return this.compareByPublicationYear(o1, o2);
-
-		return 0;
-	}
-
-	/**
-	 * Compares Publications by year.
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByPublicationYear(GeneralObject o1, GeneralObject o2) {
-		Publication p1 = o1.cast();
-		Publication p2 = o2.cast();
-		return p1.getYear() - p2.getYear();
-	}
+		// Application specific keys are used only if both objects are Applications
+		boolean applications = isApplication(obj1.<GeneralObject>cast()) && isApplication(obj2.<GeneralObject>cast());
+		return compareKeys(getSortKey(obj1, applications), getSortKey(obj2, applications));
 
-	/**
-	 * Compares GeneralObjects by ID.
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareById(GeneralObject o1, GeneralObject o2) {
-		return o1.getId() - o2.getId();
 	}
 
 	/**
-	 * Compares GeneralObjects by the name
+	 * Sort list of objects. Sort key of each object is extracted only once,
+	 * then objects are sorted by their keys and written back to the list.
 	 *
-	 * @param o1
-	 * @param o2
-	 * @return
+	 * @param list list to sort
+	 * @param ascending TRUE = ascending order / FALSE = descending
 	 */
-	private int compareByName(GeneralObject o1, GeneralObject o2) {
-		return nativeCompare(o1.getName(), o2.getName());
-	}
+	@SuppressWarnings("unchecked")
+	public void sort(List<T> list, boolean ascending) {
 
-	/**
-	 * Compares GeneralObjects by the description
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByDescription(GeneralObject o1, GeneralObject o2) {
-		return nativeCompare(o1.getDescription(), o2.getDescription());
-	}
+		if (list == null || list.size() < 2 || column == null) return;
 
-	/**
-	 * Compares VirtualOrganizations by ShortName
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByShortName(GeneralObject o1, GeneralObject o2) {
-
-		Vo vo1 = o1.cast();
-		Vo vo2 = o2.cast();
-		return nativeCompare(vo1.getShortName(), vo2.getShortName());
-
-	}
-
-	/**
-	 * Compares Facilities by their Owner's names (only technical)
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByOwnersNames(GeneralObject o1, GeneralObject o2) {
-
-		Facility facility1 = o1.cast();
-		Facility facility2 = o2.cast();
-
-		ArrayList<String> result = new ArrayList<>();
-		for (Owner o : facility1.getOwners()) {
-			if (o.getType().equals("technical")) result.add(o.getName());
+		// Application specific keys are used only if all objects are Applications
+		boolean applications = true;
+		for (T object : list) {
+			if (object != null && !isApplication(object.<GeneralObject>cast())) {
+				applications = false;
+				break;
+			}
 		}
 
-		ArrayList<String> result2 = new ArrayList<>();
-		for (Owner o : facility2.getOwners()) {
-			if (o.getType().equals("technical")) result2.add(o.getName());
+		SortEntry[] entries = new SortEntry[list.size()];
+		for (int i=0; i<entries.length; i++) {
+			T object = list.get(i);
+			entries[i] = new SortEntry(object, (object != null) ? getSortKey(object, applications) : null, object == null);
 		}
 
-		Collections.sort(result, getNativeComparator());
-		Collections.sort(result2, getNativeComparator());
-
-		return nativeCompare(Utils.join(result, ", "), Utils.join(result2, ", "));
-
-	}
-
-	/**
-	 * Compares PerunBeans by createdAt
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByCreatedAt(GeneralObject o1, GeneralObject o2) {
-
-		if (o1.getObjectType().equals("Application") && o2.getObjectType().equals("Application")) {
-
-			Application app1 = o1.cast();
-			Application app2 = o2.cast();
-			return nativeCompare(app1.getCreatedAt(), app2.getCreatedAt());
-
-		} else {
-
-			return nativeCompare(o1.getCreatedAt(), o2.getCreatedAt());
+		final int order = (ascending) ? 1 : -1;
+		Arrays.sort(entries, new Comparator<SortEntry>() {
+			@Override
+			public int compare(SortEntry o1, SortEntry o2) {
+				if (o1.empty || o2.empty) return order * (Boolean.compare(o2.empty, o1.empty));
+				return order * compareKeys(o1.key, o2.key);
+			}
+		});
 
+		for (int i=0; i<entries.length; i++) {
+			list.set(i, (T) entries[i].object);
 		}
 
 	}
 
 	/**
-	 * Compares PerunBeans by modifiedAt
+	 * Compares two sort keys. Strings are compared using browser's locale settings,
+	 * other keys by their natural order. Null key is lower than any other key.
 	 *
-	 * @param o1
-	 * @param o2
-	 * @return
+	 * @param key1 First key
+	 * @param key2 Second key
+	 * @return comparison result
 	 */
-	private int compareByModifiedAt(GeneralObject o1, GeneralObject o2) {
+	@SuppressWarnings("unchecked")
+	private static int compareKeys(Object key1, Object key2) {
 
-		if (o1.getObjectType().equals("Application") && o2.getObjectType().equals("Application")) {
+		if (key1 == null && key2 != null) return -1;
+		if (key2 == null && key1 != null) return 1;
+		if (key1 == null && key2 == null) return 0;
 
-			Application app1 = o1.cast();
-			Application app2 = o2.cast();
-			return nativeCompare(app1.getModifiedAt(), app2.getModifiedAt());
-
-		} else {
-
-			return nativeCompare(o1.getModifiedAt(), o2.getModifiedAt());
-
-		}
+		if (key1 instanceof String) return nativeCompare((String) key1, (String) key2);
+		return ((Comparable<Object>) key1).compareTo(key2);
 
 	}
 
 	/**
-	 * Compares PerunBeans by createdBy
+	 * Return key of the object, which is used for comparison on the column.
 	 *
-	 * @param o1
-	 * @param o2
-	 * @return
+	 * @param object object to get sort key for
+	 * @param applications TRUE if all compared objects are Applications
+	 * @return String, Integer or Enum value or null if column is not supported
 	 */
-	private int compareByCreatedBy(GeneralObject o1, GeneralObject o2) {
-
-		if (o1.getObjectType().equals("Application") && o2.getObjectType().equals("Application")) {
-
-			Application app1 = o1.cast();
-			Application app2 = o2.cast();
-			return nativeCompare(app1.getCreatedBy(), app2.getCreatedBy());
-
-		} else {
-
-			return nativeCompare(o1.getCreatedBy(), o2.getCreatedBy());
-
+	private Object getSortKey(T object, boolean applications) {
+
+		GeneralObject o = object.cast();
+
+		switch (column) {
+			case ID:
+				return o.getId();
+			case NAME:
+				return o.getName();
+			case DESCRIPTION:
+				return o.getDescription();
+
+			case CREATED_AT:
+				return applications ? ((Application) o.cast()).getCreatedAt() : o.getCreatedAt();
+			case MODIFIED_AT:
+				return applications ? ((Application) o.cast()).getModifiedAt() : o.getModifiedAt();
+			case CREATED_BY:
+				return applications ? ((Application) o.cast()).getCreatedBy() : o.getCreatedBy();
+			case MODIFIED_BY:
+				return applications ? Utils.convertCertCN(((Application) o.cast()).getModifiedBy()) : o.getModifiedBy();
+
+			// ATTR columns
+			case ATTR_DEF:
+				return ((AttributeDefinition) o.cast()).getDefinition();
+			case ATTR_ENTITY:
+				return ((AttributeDefinition) o.cast()).getEntity();
+			case ATTR_TYPE:
+				return ((AttributeDefinition) o.cast()).getType();
+			case ATTR_FRIENDLY_NAME:
+				return ((AttributeDefinition) o.cast()).getFriendlyName();
+
+			// VO columns
+			case VO_SHORT_NAME:
+				return ((Vo) o.cast()).getShortName();
+
+			// Facility columns
+			case FACILITY_OWNERS:
+				return getOwnersNames((Facility) o.cast());
+
+			// Owner
+			case OWNER_TYPE:
+				return ((Owner) o.cast()).getType();
+			case OWNER_CONTACT:
+				return ((Owner) o.cast()).getContact();
+
+			// ExtSource columns
+			case EXT_SOURCE_TYPE:
+				return ((ExtSource) o.cast()).getType();
+
+			// Rich User
+			case USER_ORGANIZATION:
+				return ((RichUser) o.cast()).getOrganization();
+			case USER_EMAIL:
+				return ((RichUser) o.cast()).getPreferredEmail();
+			case USER_LOGIN:
+				return ((RichUser) o.cast()).getLogins();
+
+			// Application columns
+			case APPLICATION_USER:
+				return getApplicationUser((Application) o.cast());
+			case APPLICATION_STATE:
+				return ((Application) o.cast()).getState();
+			case APPLICATION_TYPE:
+				return ((Application) o.cast()).getType();
+			case APPLICATION_VO_NAME:
+				Vo vo = ((Application) o.cast()).getVo();
+				return (vo != null) ? vo.getName() : "";
+			case APPLICATION_GROUP_NAME:
+				Group group = ((Application) o.cast()).getGroup();
+				return (group != null) ? group.getShortName() : "";
+			case APPLICATION_LOA:
+				return ((Application) o.cast()).getExtSourceLoa();
+
+			// Publication columns
+			case PUBLICATION_YEAR:
+				return ((Publication) o.cast()).getYear();
+
+			default:
+				return null;
 		}
 
 	}
 
-	/**
-	 * Compares PerunBeans by modifiedBy
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByModifiedBy(GeneralObject o1, GeneralObject o2) {
-
-		if (o1.getObjectType().equals("Application") && o2.getObjectType().equals("Application")) {
-
-			Application app1 = o1.cast();
-			Application app2 = o2.cast();
-			return nativeCompare(Utils.convertCertCN(app1.getModifiedBy()), Utils.convertCertCN(app2.getModifiedBy()));
-
-		} else {
-
-			return nativeCompare(o1.getModifiedBy(), o2.getModifiedBy());
-
-		}
-
+	private static boolean isApplication(GeneralObject o) {
+		return "Application".equals(o.getObjectType());
 	}
 
 	/**
-	 * Compares Application by user name or ext source login and ext source name.
+	 * Return sorted names of Facility's technical Owners
 	 *
-	 * @param o1
-	 * @param o2
+	 * @param facility
 	 * @return
 	 */
-	private int compareByApplicationUser(GeneralObject o1, GeneralObject o2) {
+	private static String getOwnersNames(Facility facility) {
 
-		Application app1 = o1.cast();
-		Application app2 = o2.cast();
-
-		String compare1 = "";
-		String compare2 = "";
-		if (app1.getUser() != null) {
-			compare1 = app1.getUser().getFullName();
-		} else {
-			compare1 = Utils.convertCertCN(app1.getCreatedBy()) + " / " + Utils.translateIdp(Utils.convertCertCN(app1.getExtSourceName()));
-		}
-		if (app2.getUser() != null) {
-			compare2 = app2.getUser().getFullName();
-		} else {
-			compare2 = Utils.convertCertCN(app2.getCreatedBy()) + " / " + Utils.translateIdp(Utils.convertCertCN(app2.getExtSourceName()));
+		ArrayList<String> result = new ArrayList<>();
+		for (Owner o : facility.getOwners()) {
+			if (o.getType().equals("technical")) result.add(o.getName());
 		}
-
-		return nativeCompare(compare1, compare2);
-
-	}
-
-	/**
-	 * Compares Application by state
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByApplicationState(GeneralObject o1, GeneralObject o2) {
-
-		Application app1 = o1.cast();
-		Application app2 = o2.cast();
-
-		return app1.getState().compareTo(app2.getState());
-
-	}
-
-	/**
-	 * Compares Application by type
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByApplicationType(GeneralObject o1, GeneralObject o2) {
-
-		Application app1 = o1.cast();
-		Application app2 = o2.cast();
-
-		return app1.getType().compareTo(app2.getType());
+		Collections.sort(result, getNativeComparator());
+		return Utils.join(result, ", ");
 
 	}
 
 	/**
-	 * Compares Application by VO name
+	 * Return Application's user name or ext source login and ext source name.
 	 *
-	 * @param o1
-	 * @param o2
+	 * @param app
 	 * @return
 	 */
-	private int compareByApplicationVoName(GeneralObject o1, GeneralObject o2) {
-
-		Application app1 = o1.cast();
-		Application app2 = o2.cast();
+	private static String getApplicationUser(Application app) {
 
-		String compare1 = "";
-		String compare2 = "";
-		if (app1.getVo() != null) {
-			compare1 = app1.getVo().getName();
-		}
-		if (app2.getVo() != null) {
-			compare2 = app2.getVo().getName();
+		if (app.getUser() != null) {
+			return app.getUser().getFullName();
+		} else {
+			return Utils.convertCertCN(app.getCreatedBy()) + " / " + Utils.translateIdp(Utils.convertCertCN(app.getExtSourceName()));
 		}
 
-		return nativeCompare(compare1, compare2);
-
 	}
 
 	/**
-	 * Compares Application by Group name
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
+	 * Object decorated with its sort key.
 	 */
-	private int compareByApplicationGroupName(GeneralObject o1, GeneralObject o2) {
+	private static class SortEntry {
 
-		Application app1 = o1.cast();
-		Application app2 = o2.cast();
+		private final Object object;
+		private final Object key;
+		private final boolean empty;
 
-		String compare1 = "";
-		String compare2 = "";
-		if (app1.getGroup() != null) {
-			compare1 = app1.getGroup().getShortName();
-		}
-		if (app2.getGroup() != null) {
-			compare2 = app2.getGroup().getShortName();
+		SortEntry(Object object, Object key, boolean empty) {
+			this.object = object;
+			this.key = key;
+			this.empty = empty;
 		}
 
-		return nativeCompare(compare1, compare2);
-
-	}
-
-	/**
-	 * Compares Application by Group name
-	 *
-	 * @param o1
-	 * @param o2
-	 * @return
-	 */
-	private int compareByApplicationLoA(GeneralObject o1, GeneralObject o2) {
-
-		Application app1 = o1.cast();
-		Application app2 = o2.cast();
-
-		return app1.getExtSourceLoa() - app2.getExtSourceLoa();
-
 	}
 
 }
@@ -5,11 +5,28 @@ import com.google.gwt.cell.client.CheckboxCell;
 import com.google.gwt.cell.client.FieldUpdater;
 import com.google.gwt.cell.client.ValueUpdater;
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.dom.client.TableElement;
+import com.google.gwt.dom.client.TableRowElement;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.cellview.client.*;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.CustomScrollPanel;
+import com.google.gwt.user.client.ui.HeaderPanel;
+import com.google.gwt.view.client.AsyncDataProvider;
+import com.google.gwt.view.client.HasData;
 import com.google.gwt.view.client.MultiSelectionModel;
+import com.google.gwt.view.client.Range;
 import com.google.gwt.view.client.SingleSelectionModel;
 import cz.metacentrum.perun.wui.model.ColumnProvider;
 import cz.metacentrum.perun.wui.model.GeneralObject;
+import cz.metacentrum.perun.wui.model.PerunException;
+import cz.metacentrum.perun.wui.model.resources.PerunComparator;
 import cz.metacentrum.perun.wui.model.resources.PerunKeyProvider;
 import cz.metacentrum.perun.wui.widgets.cells.PerunCheckboxCell;
 import cz.metacentrum.perun.wui.widgets.resources.PerunColumn;
@@ -76,9 +93,46 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 
 	Set<PerunColumnType> columnsToFilterBy = new HashSet<>();
 
+	// delay of filtering while user is typing
+	private static final int FILTER_DELAY = 300;
+	Timer filterTimer;
+
+	// default filter of column provider, kept so its index can be reused
+	PerunFilterEvent<T> defaultFilter;
+
+	// lower-cased values of backed-up items per column, built on first filtering by column
+	Map<PerunColumnType, String[]> filterIndex = new HashMap<>();
+	PerunIndexedFilterEvent<T> indexedFilter;
+
+	// last filtering, used to filter only its result when user extends the input
+	String lastFilterText;
+	Set<PerunColumnType> lastFilterColumns;
+	List<Integer> lastFilterResult;
+
 	// loading widget used for table loading / filtering / error
 	PerunLoader loaderWidget;
 
+	// large lists are passed to table in chunks, so browser stays responsive
+	private static final int INGESTION_CHUNK_SIZE = 1000;
+	Scheduler.RepeatingCommand ingestion;
+	String pendingFilterText;
+	PerunFilterEvent<T> pendingFilter;
+
+	// when enabled, only rows in visible part of table (plus buffer) are rendered
+	boolean virtualScrolling = false;
+	private static final int VIRTUAL_SCROLLING_BUFFER = 25;
+	private static final int DEFAULT_ROW_HEIGHT = 30;
+	int rowHeight = 0;
+	int renderedStart = 0;
+	int renderedLength = 0;
+	HandlerRegistration virtualScrollingRegistration;
+
+	// when set, table is in paged mode and displays only page of items loaded from provider
+	PerunPageProvider<T> pageProvider;
+	AsyncDataProvider<T> asyncDataProvider;
+	String pageFilter;
+	int pageRequest = 0;
+
 	/**
 	 * Interface for Anonymous classes, which provides filtering
 	 * decision on object.
@@ -100,6 +154,34 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 
 	}
 
+	/**
+	 * Filtering rule, which provides values of columns to filter by. Table can then normalize
+	 * values once and filter on them repeatedly without calling filterOnObject() on each item.
+	 * <p/>
+	 * Object matches the rule, when value of any filtered column contains filtering input (ignoring case).
+	 *
+	 * @param <T>
+	 */
+	public interface PerunIndexedFilterEvent<T extends JavaScriptObject> extends PerunFilterEvent<T> {
+
+		/**
+		 * Return columns to filter by, when user hasn't selected any.
+		 *
+		 * @return set of columns
+		 */
+		public Set<PerunColumnType> getDefaultColumnsToFilterBy();
+
+		/**
+		 * Return value of object in a column to filter by.
+		 *
+		 * @param columnType column to get value of
+		 * @param object object to get value from
+		 * @return value or null, if object has no value or column is not supported
+		 */
+		public String getFilterValue(PerunColumnType columnType, T object);
+
+	}
+
 	/**
 	 * Interface for anonymous classes, which provides selection
 	 * decision on object.
@@ -118,6 +200,51 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 
 	}
 
+	/**
+	 * Provider of items for table in paged mode. It's asked for a page of items
+	 * whenever table changes displayed range, sorting or filtering.
+	 *
+	 * @param <T>
+	 */
+	public interface PerunPageProvider<T extends JavaScriptObject> {
+
+		/**
+		 * Load page of items. Result must be passed to the callback.
+		 *
+		 * @param range      offset and limit of items to load
+		 * @param sortColumn column to sort items by or null if not sorted
+		 * @param descending TRUE = descending order / FALSE = ascending
+		 * @param filter     filtering input or null if not filtered
+		 * @param callback   callback to pass loaded items to
+		 */
+		public void loadPage(Range range, PerunColumnType sortColumn, boolean descending, String filter, PerunPageCallback<T> callback);
+
+	}
+
+	/**
+	 * Callback of {@link PerunPageProvider}.
+	 *
+	 * @param <T>
+	 */
+	public interface PerunPageCallback<T extends JavaScriptObject> {
+
+		/**
+		 * Called when page of items is loaded.
+		 *
+		 * @param items      items of requested page
+		 * @param totalCount number of all items matching the filter
+		 */
+		public void onPageLoaded(List<T> items, int totalCount);
+
+		/**
+		 * Called when page can't be loaded.
+		 *
+		 * @param error error to display in table
+		 */
+		public void onError(PerunException error);
+
+	}
+
 	/**
 	 * Class extending default list handler for sortable columns, which perform table redraw after sorting.
 	 * It's used by PerunDataGrid by default.
@@ -133,8 +260,21 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 		}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public void onColumnSort(ColumnSortEvent event) {
-			super.onColumnSort(event);
+			if (pageProvider != null) {
+				// provider sorts all items, load first page
+				lastSort = event;
+				loadFirstPage();
+				return;
+			}
+			Comparator comparator = (event.getColumn() != null) ? getComparator(event.getColumn()) : null;
+			if (comparator instanceof PerunComparator) {
+				// extract sort keys only once per row
+				((PerunComparator<T>) comparator).sort(getList(), event.isSortAscending());
+			} else {
+				super.onColumnSort(event);
+			}
 			lastSort = event;
 			dataGrid.refresh();
 		}
@@ -412,6 +552,7 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 	public void setColumnProvider(ColumnProvider<T> columnProvider, boolean useColumnProviderSettings) {
 
 		this.columnProvider = columnProvider;
+		this.defaultFilter = null;
 
 		if (useColumnProviderSettings) {
 			// load default settings
@@ -433,6 +574,7 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 		if (object != null) {
 			backup.add(object);
 			content.add(object);
+			clearFilterIndex();
 			refresh();
 			// TODO - update oracle
 		}
@@ -453,6 +595,7 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 					content.add(objects.get(i));
 				}
 			}
+			clearFilterIndex();
 			refresh();
 			// TODO - update oracle
 		}
@@ -481,6 +624,7 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 			} else {
 				content.add(index, object);
 			}
+			clearFilterIndex();
 			refresh();
 			// TODO - update oracle
 
@@ -550,6 +694,7 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 
 		backup.remove(object);
 		content.remove(object);
+		clearFilterIndex();
 		// remove object from selection
 		getSelectionModel().setSelected(object, false);
 		refresh();
@@ -567,6 +712,7 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 		// FIXME - save remove from list, we cant use object's equals().
 		backup.removeAll(objects);
 		content.removeAll(objects);
+		clearFilterIndex();
 		// remove object from selection
 		for (T object : objects) {
 			getSelectionModel().setSelected(object, false);
@@ -586,6 +732,11 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 	 * All passed items are added to table and then sorted by last sort event or
 	 * table's default sort column (based on object type).
 	 * <p/>
+	 * Large lists are added in chunks, while browser stays responsive and loading widget shows progress.
+	 * First chunk is displayed right away, whole content is sorted in background and displayed once sorted,
+	 * so {@link #getList()} is not complete when this method returns. Then values for default filter
+	 * are indexed in background.
+	 * <p/>
 	 * Loading widget is set to onFinished() state.
 	 *
 	 * @param list content to set to table
@@ -595,6 +746,10 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 		// TODO - suggest oracle + default sort ?
 
 		clearTable();
+		if (list != null && list.size() > INGESTION_CHUNK_SIZE) {
+			ingestList(list);
+			return;
+		}
 		if (list != null && !list.isEmpty()) {
 			backup.addAll(list);
 			content.addAll(list);
@@ -607,6 +762,238 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 
 	}
 
+	/**
+	 * Add items to table in chunks, each chunk in separate slice of time. Each chunk is sorted
+	 * on its own and first sorted chunk is displayed right away. Sorted chunks are then merged
+	 * by parts, each part in separate slice of time, and table is redrawn once all items are sorted.
+	 * <p/>
+	 * Ingestion is stopped when table is cleared or new list is set. When table is sorted
+	 * by other column meanwhile, chunks are sorted again. Filtering requested meanwhile
+	 * is performed (and its result sorted) once all items are added.
+	 *
+	 * @param list content to set to table
+	 */
+	private void ingestList(final List<T> list) {
+
+		final int size = list.size();
+		loaderWidget.onProgress(0);
+
+		// sort empty table to get current sort and mark sorted column
+		sortTable();
+
+		ingestion = new Scheduler.RepeatingCommand() {
+
+			// items of list added to backup
+			int position = 0;
+			// items of backup put to sorted runs
+			int sorted = 0;
+
+			ColumnSortEvent sort;
+			Comparator<T> order;
+			LinkedList<List<T>> runs = new LinkedList<>();
+
+			// runs being merged
+			List<T> left;
+			List<T> right;
+			List<T> merged;
+			int leftPosition;
+			int rightPosition;
+
+			@Override
+			public boolean execute() {
+
+				// table was cleared or new list was set
+				if (ingestion != this) return false;
+
+				if (columnSortHandler.getLastSort() != sort) {
+					// table was sorted by other column, sort chunks again
+					sort = columnSortHandler.getLastSort();
+					order = getSortOrder(sort);
+					runs.clear();
+					merged = null;
+					sorted = 0;
+				}
+
+				if (position < size) {
+					int end = Math.min(position + INGESTION_CHUNK_SIZE, size);
+					backup.addAll(list.subList(position, end));
+					position = end;
+					loaderWidget.onProgress(position * 100 / size);
+				}
+
+				if (sorted < backup.size()) {
+					int end = Math.min(sorted + INGESTION_CHUNK_SIZE, backup.size());
+					List<T> run = new ArrayList<>(backup.subList(sorted, end));
+					if (order != null) sortRun(run, sort, order);
+					runs.addLast(run);
+					if (sorted == 0) {
+						// draw first screen, rest of items is displayed once sorted
+						content.clear();
+						content.addAll(run);
+						refresh();
+					}
+					sorted = end;
+					return true;
+				}
+
+				if (pendingFilter == null && order != null && (merged != null || runs.size() > 1)) {
+					mergeRuns();
+					return true;
+				}
+
+				ingestion = null;
+				loaderWidget.onFinished();
+				if (pendingFilter != null) {
+					PerunFilterEvent<T> filter = pendingFilter;
+					pendingFilter = null;
+					filterTable(pendingFilterText, filter);
+				} else {
+					content.clear();
+					content.addAll((order != null) ? runs.getFirst() : backup);
+					refresh();
+				}
+				indexDefaultFilter();
+				return false;
+
+			}
+
+			/**
+			 * Merge part of two first sorted runs, merged run is put to the end of runs.
+			 */
+			private void mergeRuns() {
+
+				if (merged == null) {
+					left = runs.removeFirst();
+					right = runs.removeFirst();
+					merged = new ArrayList<>(left.size() + right.size());
+					leftPosition = 0;
+					rightPosition = 0;
+				}
+
+				int total = left.size() + right.size();
+				int end = Math.min(merged.size() + INGESTION_CHUNK_SIZE, total);
+				while (merged.size() < end) {
+					// keep order of equal items
+					if (rightPosition >= right.size() || (leftPosition < left.size()
+							&& order.compare(left.get(leftPosition), right.get(rightPosition)) <= 0)) {
+						merged.add(left.get(leftPosition++));
+					} else {
+						merged.add(right.get(rightPosition++));
+					}
+				}
+
+				if (merged.size() == total) {
+					runs.addLast(merged);
+					merged = null;
+				}
+
+			}
+
+		};
+		Scheduler.get().scheduleIncremental(ingestion);
+
+	}
+
+	/**
+	 * Return comparator of items by sort event including its direction.
+	 *
+	 * @param sort sort event
+	 * @return comparator or null if table is not sorted
+	 */
+	@SuppressWarnings("unchecked")
+	private Comparator<T> getSortOrder(ColumnSortEvent sort) {
+
+		if (sort == null || sort.getColumn() == null) return null;
+		Comparator<T> comparator = columnSortHandler.getComparator(sort.getColumn());
+		if (comparator == null) return null;
+		return (sort.isSortAscending()) ? comparator : Collections.reverseOrder(comparator);
+
+	}
+
+	/**
+	 * Sort part of items the same way as sort handler of the table.
+	 *
+	 * @param run items to sort
+	 * @param sort sort event
+	 * @param order comparator of items by sort event
+	 */
+	@SuppressWarnings("unchecked")
+	private void sortRun(List<T> run, ColumnSortEvent sort, Comparator<T> order) {
+
+		Comparator comparator = columnSortHandler.getComparator(sort.getColumn());
+		if (comparator instanceof PerunComparator) {
+			// extract sort keys only once per row
+			((PerunComparator<T>) comparator).sort(run, sort.isSortAscending());
+		} else {
+			Collections.sort(run, order);
+		}
+
+	}
+
+	/**
+	 * Build index of values for default filter of column provider in chunks, each chunk
+	 * in separate slice of time. Only complete columns are put to the index. Indexing is stopped
+	 * when content of table changes.
+	 */
+	private void indexDefaultFilter() {
+
+		if (columnProvider == null) return;
+		if (defaultFilter == null) defaultFilter = columnProvider.getDefaultFilterEvent();
+		if (!(defaultFilter instanceof PerunIndexedFilterEvent)) return;
+
+		final PerunIndexedFilterEvent<T> filter = (PerunIndexedFilterEvent<T>) defaultFilter;
+		if (filter != indexedFilter) {
+			clearFilterIndex();
+			indexedFilter = filter;
+		}
+
+		final Map<PerunColumnType, String[]> index = filterIndex;
+		final List<PerunColumnType> columnTypes = new ArrayList<>(filter.getDefaultColumnsToFilterBy());
+		final int size = backup.size();
+
+		Scheduler.get().scheduleIncremental(new Scheduler.RepeatingCommand() {
+
+			int column = 0;
+			int position = 0;
+			String[] values;
+
+			@Override
+			public boolean execute() {
+
+				// content or filter changed
+				if (filterIndex != index || indexedFilter != filter || backup.size() != size) return false;
+				if (column >= columnTypes.size()) return false;
+
+				PerunColumnType columnType = columnTypes.get(column);
+				if (index.containsKey(columnType)) {
+					// already indexed by filtering
+					column++;
+					position = 0;
+					values = null;
+					return true;
+				}
+
+				if (values == null) values = new String[size];
+				int end = Math.min(position + INGESTION_CHUNK_SIZE, size);
+				for (int i = position; i < end; i++) {
+					values[i] = getFilterValue(filter, columnType, backup.get(i));
+				}
+				position = end;
+
+				if (position >= size) {
+					index.put(columnType, values);
+					column++;
+					position = 0;
+					values = null;
+				}
+				return true;
+
+			}
+
+		});
+
+	}
+
 	/**
 	 * Clears all data from table.
 	 * <p/>
@@ -618,8 +1005,13 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 
 		// TODO clear oracle
 
+		// stop adding items of previous list
+		ingestion = null;
+		pendingFilter = null;
+
 		content.clear();
 		backup.clear();
+		clearFilterIndex();
 
 		// clear selection model !!
 		if (singleSelection) {
@@ -647,11 +1039,33 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 	public void filterTable(String text) {
 
 		if (columnProvider != null) {
-			filterTable(text, columnProvider.getDefaultFilterEvent());
+			if (defaultFilter == null) defaultFilter = columnProvider.getDefaultFilterEvent();
+			filterTable(text, defaultFilter);
 		}
 
 	}
 
+	/**
+	 * Filter content of table based on user input once user stops typing.
+	 * Each call postpones previously requested filtering.
+	 *
+	 * @see #filterTable(String)
+	 * @param text filtering input (null or empty to show all = ignore filtering rules)
+	 */
+	public void filterTableDelayed(final String text) {
+
+		if (filterTimer != null) filterTimer.cancel();
+		filterTimer = new Timer() {
+			@Override
+			public void run() {
+				filterTimer = null;
+				filterTable(text);
+			}
+		};
+		filterTimer.schedule(FILTER_DELAY);
+
+	}
+
 	/**
 	 * Filter content of table based on user input and custom filtering rule.
 	 * <p/>
@@ -662,6 +1076,19 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 	 */
 	public void filterTable(String text, PerunFilterEvent<T> filter) {
 
+		// filtering requested by typing is replaced by this one
+		if (filterTimer != null) {
+			filterTimer.cancel();
+			filterTimer = null;
+		}
+
+		if (ingestion != null) {
+			// filter once all items are in table
+			pendingFilterText = text;
+			pendingFilter = filter;
+			return;
+		}
+
 		// clear selection model !!
 		if (singleSelection) {
 			singleSelectionModel.clear();
@@ -669,11 +1096,23 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 			multiSelectionModel.clear();
 		}
 
+		if (pageProvider != null) {
+			// provider filters all items, load first page
+			pageFilter = (text == null || text.isEmpty()) ? null : text;
+			loadFirstPage();
+			return;
+		}
+
 		// filter table content
 		content.clear();
 		if (text == null || text.isEmpty()) {
 			// show all items in table
 			content.addAll(backup);
+			lastFilterResult = null;
+		} else if (filter instanceof PerunIndexedFilterEvent) {
+			for (int i : filterByIndex(text, (PerunIndexedFilterEvent<T>) filter)) {
+				content.add(backup.get(i));
+			}
 		} else {
 			// do filtering
 			for (T object : backup) {
@@ -691,6 +1130,91 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 
 	}
 
+	/**
+	 * Filter backed-up items using index of normalized column values. If input extends
+	 * input of last filtering, only last result is filtered.
+	 *
+	 * @param text filtering input
+	 * @param filter filtering rule
+	 * @return positions of matching items in backup
+	 */
+	private List<Integer> filterByIndex(String text, PerunIndexedFilterEvent<T> filter) {
+
+		if (filter != indexedFilter) {
+			clearFilterIndex();
+			indexedFilter = filter;
+		}
+
+		String query = text.toLowerCase();
+		Set<PerunColumnType> columnTypes = (columnsToFilterBy.isEmpty()) ? filter.getDefaultColumnsToFilterBy() : columnsToFilterBy;
+
+		List<String[]> values = new ArrayList<>();
+		for (PerunColumnType columnType : columnTypes) {
+			String[] columnValues = filterIndex.get(columnType);
+			if (columnValues == null) {
+				columnValues = new String[backup.size()];
+				for (int i = 0; i < backup.size(); i++) {
+					columnValues[i] = getFilterValue(filter, columnType, backup.get(i));
+				}
+				filterIndex.put(columnType, columnValues);
+			}
+			values.add(columnValues);
+		}
+
+		List<Integer> result = new ArrayList<>();
+		if (lastFilterResult != null && query.contains(lastFilterText) && columnTypes.equals(lastFilterColumns)) {
+			for (int i : lastFilterResult) {
+				if (matches(values, i, query)) result.add(i);
+			}
+		} else {
+			for (int i = 0; i < backup.size(); i++) {
+				if (matches(values, i, query)) result.add(i);
+			}
+		}
+
+		lastFilterText = query;
+		lastFilterColumns = new HashSet<>(columnTypes);
+		lastFilterResult = result;
+		return result;
+
+	}
+
+	/**
+	 * Return lower-cased value of item in a column to filter by.
+	 *
+	 * @param filter filtering rule
+	 * @param columnType column to get value of
+	 * @param object item to get value from
+	 * @return lower-cased value or null
+	 */
+	private String getFilterValue(PerunIndexedFilterEvent<T> filter, PerunColumnType columnType, T object) {
+		String value = filter.getFilterValue(columnType, object);
+		return (value != null) ? value.toLowerCase() : null;
+	}
+
+	/**
+	 * Return TRUE if any indexed column value of item contains query.
+	 *
+	 * @param values indexed values of columns
+	 * @param index position of item in backup
+	 * @param query lower-cased filtering input
+	 * @return TRUE if item matches
+	 */
+	private boolean matches(List<String[]> values, int index, String query) {
+		for (String[] columnValues : values) {
+			if (columnValues[index] != null && columnValues[index].contains(query)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Clear index used for filtering, must be called whenever backed-up items change.
+	 */
+	private void clearFilterIndex() {
+		filterIndex = new HashMap<>();
+		lastFilterResult = null;
+	}
+
 	/**
 	 * Switches column state to enable or disable filtering on it.
 	 *
@@ -708,9 +1232,17 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 	 * Refresh / redraw table view based on current state of list.
 	 */
 	public void refresh() {
+		if (pageProvider != null) {
+			// reload current page
+			this.setVisibleRangeAndClearData(getVisibleRange(), true);
+			return;
+		}
 		if (content.isEmpty()) {
 			// do not set if is empty
 			this.setRowCount(0, false);
+			setVirtualScrollingSpace(0, 0);
+		} else if (virtualScrolling) {
+			renderVisibleRows(true);
 		} else {
 			this.setRowData(content);
 		}
@@ -718,6 +1250,229 @@ public class PerunDataGrid<T extends JavaScriptObject> extends DataGrid<T> {
 		this.redraw();
 	}
 
+	/**
+	 * Return TRUE if table renders only rows in its visible part.
+	 *
+	 * @return TRUE = virtual scrolling enabled / FALSE = all rows are rendered (default)
+	 */
+	public boolean isVirtualScrolling() {
+		return virtualScrolling;
+	}
+
+	/**
+	 * Set if table should render only rows in its visible part plus some buffer. Rest of the rows
+	 * is replaced by empty space, so scrollbar behaves as if all rows were rendered. Rows are rendered
+	 * as user scrolls the table. Use it for tables with large content.
+	 * <p/>
+	 * Rows are expected to have the same height.
+	 *
+	 * @param virtualScrolling TRUE = render only visible rows / FALSE = render all rows (default)
+	 */
+	public void setVirtualScrolling(boolean virtualScrolling) {
+
+		this.virtualScrolling = virtualScrolling;
+
+		if (virtualScrolling && virtualScrollingRegistration == null) {
+			virtualScrollingRegistration = getScrollPanel().addScrollHandler(new ScrollHandler() {
+				@Override
+				public void onScroll(ScrollEvent event) {
+					if (pageProvider == null && !content.isEmpty()) renderVisibleRows(false);
+				}
+			});
+		} else if (!virtualScrolling && virtualScrollingRegistration != null) {
+			virtualScrollingRegistration.removeHandler();
+			virtualScrollingRegistration = null;
+			setVirtualScrollingSpace(0, 0);
+		}
+
+		refresh();
+
+	}
+
+	/**
+	 * Return TRUE if table is in paged mode.
+	 *
+	 * @return TRUE = items are loaded by pages from provider / FALSE = all items are passed to table (default)
+	 */
+	public boolean isPaged() {
+		return pageProvider != null;
+	}
+
+	/**
+	 * Set provider of items and switch table to paged mode. Table then keeps only currently displayed
+	 * page of items and asks provider for another page whenever displayed range, sorting or filtering
+	 * changes. Size of page is set by {@link #setPageSize(int)}, attach any pager to table to
+	 * change displayed range and show total number of items.
+	 * <p/>
+	 * Items must not be passed to table by {@link #setList(List)} or add/remove methods in paged mode.
+	 * Virtual scrolling is not used in paged mode.
+	 * <p/>
+	 * All content and selection made to table is lost!
+	 *
+	 * @param pageProvider provider of items or null to switch paged mode off
+	 */
+	public void setPageProvider(PerunPageProvider<T> pageProvider) {
+
+		if (asyncDataProvider != null) {
+			asyncDataProvider.removeDataDisplay(this);
+			asyncDataProvider = null;
+		}
+
+		this.pageProvider = pageProvider;
+		this.pageFilter = null;
+		pageRequest++;
+
+		if (pageProvider != null) {
+			content.clear();
+			backup.clear();
+			clearFilterIndex();
+			setVirtualScrollingSpace(0, 0);
+			asyncDataProvider = new AsyncDataProvider<T>(new PerunKeyProvider<T>()) {
+				@Override
+				protected void onRangeChanged(HasData<T> display) {
+					loadPage(display.getVisibleRange());
+				}
+			};
+			// adding display loads first page
+			asyncDataProvider.addDataDisplay(this);
+		} else {
+			clearTable();
+		}
+
+	}
+
+	/**
+	 * Load first page of items in paged mode.
+	 */
+	private void loadFirstPage() {
+		this.setVisibleRangeAndClearData(new Range(0, getVisibleRange().getLength()), true);
+	}
+
+	/**
+	 * Ask provider for page of items using current sorting and filtering.
+	 * Responses to outdated requests are ignored.
+	 *
+	 * @param range range of items to load
+	 */
+	private void loadPage(final Range range) {
+
+		final int request = ++pageRequest;
+
+		PerunColumnType sortColumn = null;
+		boolean descending = false;
+		ColumnSortEvent sort = columnSortHandler.getLastSort();
+		if (sort != null && sort.getColumn() instanceof PerunColumn) {
+			sortColumn = ((PerunColumn) sort.getColumn()).getColumnType();
+			descending = !sort.isSortAscending();
+		} else if (columnProvider != null) {
+			sortColumn = columnProvider.getDefaultSortColumn();
+			descending = columnProvider.isDefaultSortColumnDescending();
+		}
+
+		// clear selection model !!
+		if (singleSelection) {
+			singleSelectionModel.clear();
+		} else {
+			multiSelectionModel.clear();
+		}
+
+		loaderWidget.onLoading();
+
+		pageProvider.loadPage(range, sortColumn, descending, pageFilter, new PerunPageCallback<T>() {
+			@Override
+			public void onPageLoaded(List<T> items, int totalCount) {
+				if (request != pageRequest) return;
+				content.clear();
+				if (items != null) content.addAll(items);
+				asyncDataProvider.updateRowCount(totalCount, true);
+				asyncDataProvider.updateRowData(range.getStart(), content);
+				if (totalCount > 0) {
+					loaderWidget.onFinished();
+				} else if (pageFilter != null) {
+					loaderWidget.onFilter(pageFilter);
+				} else {
+					loaderWidget.onFinishedEmpty();
+				}
+			}
+
+			@Override
+			public void onError(PerunException error) {
+				if (request != pageRequest) return;
+				loaderWidget.onError(error, new ClickHandler() {
+					@Override
+					public void onClick(ClickEvent event) {
+						refresh();
+					}
+				});
+			}
+		});
+
+	}
+
+	/**
+	 * Render rows in visible part of table. If already rendered rows still cover visible part
+	 * of table, nothing is rendered unless forced.
+	 *
+	 * @param force TRUE = render rows even if they are already rendered
+	 */
+	private void renderVisibleRows(boolean force) {
+
+		CustomScrollPanel scrollPanel = getScrollPanel();
+		int height = getRowHeight();
+		int firstVisible = scrollPanel.getVerticalScrollPosition() / height;
+		int visibleCount = scrollPanel.getOffsetHeight() / height + 1;
+
+		if (!force && firstVisible >= renderedStart && firstVisible + visibleCount <= renderedStart + renderedLength) {
+			return;
+		}
+
+		int start = Math.max(0, Math.min(firstVisible - VIRTUAL_SCROLLING_BUFFER, content.size() - 1));
+		int length = Math.min(content.size() - start, visibleCount + 2 * VIRTUAL_SCROLLING_BUFFER);
+
+		renderedStart = start;
+		renderedLength = length;
+
+		this.setRowCount(content.size(), true);
+		this.setVisibleRange(start, length);
+		this.setRowData(start, content.subList(start, start + length));
+		setVirtualScrollingSpace(start * height, (content.size() - start - length) * height);
+
+	}
+
+	/**
+	 * Set empty space above and below rendered rows, which replaces not rendered rows.
+	 *
+	 * @param top space above rendered rows in px
+	 * @param bottom space below rendered rows in px
+	 */
+	private void setVirtualScrollingSpace(int top, int bottom) {
+		TableElement table = getTableBodyElement().getParentElement().cast();
+		table.getStyle().setMarginTop(top, Style.Unit.PX);
+		table.getStyle().setMarginBottom(bottom, Style.Unit.PX);
+	}
+
+	/**
+	 * Return height of a table row. It's measured on first rendered row and then kept.
+	 *
+	 * @return height of a row in px
+	 */
+	private int getRowHeight() {
+		if (rowHeight <= 0 && getTableBodyElement().getRows().getLength() > 0) {
+			TableRowElement row = getTableBodyElement().getRows().getItem(0);
+			rowHeight = row.getOffsetHeight();
+		}
+		return (rowHeight > 0) ? rowHeight : DEFAULT_ROW_HEIGHT;
+	}
+
+	/**
+	 * Return panel which scrolls table content.
+	 *
+	 * @return scroll panel of table content
+	 */
+	private CustomScrollPanel getScrollPanel() {
+		return (CustomScrollPanel) ((HeaderPanel) getWidget()).getContentWidget();
+	}
+
 	/**
 	 * Return list of objects selected in table. Handles both (single/multi) selection models.
 	 * <p/>
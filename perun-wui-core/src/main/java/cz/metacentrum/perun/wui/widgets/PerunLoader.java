@@ -157,6 +157,20 @@ public class PerunLoader extends Composite {
 
 	}
 
+	/**
+	 * Called by table when it's passing loaded data to itself in chunks.
+	 *
+	 * @param percent part of data already passed to table (0-100)
+	 */
+	public void onProgress(int percent) {
+
+		if (!PerunLoaderState.loading.equals(state)) {
+			onLoading();
+		}
+		bar.setPercent(percent);
+
+	}
+
 	/**
 	 * Called by table when content is cleared.
 	 */
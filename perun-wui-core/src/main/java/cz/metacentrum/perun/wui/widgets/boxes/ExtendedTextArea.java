@@ -6,6 +6,7 @@ import com.google.gwt.regexp.shared.MatchResult;
 import com.google.gwt.regexp.shared.RegExp;
 import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.Event;
+import cz.metacentrum.perun.wui.client.utils.RegExpCache;
 import org.gwtbootstrap3.client.ui.TextArea;
 
 /**
@@ -121,7 +122,7 @@ public class ExtendedTextArea extends TextArea {
 
 		if (!regex.equals("")) {
 
-			RegExp regExp = RegExp.compile(regex);
+			RegExp regExp = RegExpCache.get(regex);
 			MatchResult matcher = regExp.exec(getValue());
 			boolean matchFound = (matcher != null); // equivalent to regExp.test(inputStr);
 			if(!matchFound){
@@ -0,0 +1,60 @@
+package cz.metacentrum.perun.wui.widgets.resources;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.view.client.Range;
+import cz.metacentrum.perun.wui.model.resources.PerunComparator;
+import cz.metacentrum.perun.wui.widgets.PerunDataGrid;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Provider of pages for {@link PerunDataGrid} in paged mode, which pages list of items kept in memory.
+ * Items are sorted by {@link PerunComparator} and filtered by passed filtering rule.
+ * <p/>
+ * It can be used in place of provider loading pages from server, e.g. for development and testing.
+ *
+ * @param <T>
+ */
+public class PerunListPageProvider<T extends JavaScriptObject> implements PerunDataGrid.PerunPageProvider<T> {
+
+	private final List<T> items;
+	private final PerunDataGrid.PerunFilterEvent<T> filterEvent;
+
+	/**
+	 * Create provider of pages of items.
+	 *
+	 * @param items       all items to page
+	 * @param filterEvent filtering rule or null if items can't be filtered
+	 */
+	public PerunListPageProvider(List<T> items, PerunDataGrid.PerunFilterEvent<T> filterEvent) {
+		this.items = new ArrayList<>(items);
+		this.filterEvent = filterEvent;
+	}
+
+	@Override
+	public void loadPage(Range range, PerunColumnType sortColumn, boolean descending, String filter, PerunDataGrid.PerunPageCallback<T> callback) {
+
+		List<T> result = new ArrayList<>();
+		if (filter == null || filter.isEmpty() || filterEvent == null) {
+			result.addAll(items);
+		} else {
+			for (T item : items) {
+				if (filterEvent.filterOnObject(new HashSet<PerunColumnType>(), filter, item)) {
+					result.add(item);
+				}
+			}
+		}
+
+		if (sortColumn != null) {
+			new PerunComparator<T>(sortColumn).sort(result, !descending);
+		}
+
+		int start = Math.min(range.getStart(), result.size());
+		int end = Math.min(range.getStart() + range.getLength(), result.size());
+		callback.onPageLoaded(new ArrayList<>(result.subList(start, end)), result.size());
+
+	}
+
+}
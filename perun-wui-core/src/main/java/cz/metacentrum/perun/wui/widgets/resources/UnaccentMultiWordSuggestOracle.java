@@ -113,6 +113,11 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 	 */
 	private HashMap<String, String> toRealSuggestions = new HashMap<String, String>();
 
+	/**
+	 * Read-only index of suggestions loaded in bulk by {@link #addAll(Collection)}.
+	 */
+	private CompactIndex compactIndex;
+
 	/**
 	 * The whitespace masks used to prevent matching and replacing of the given
 	 * substrings.
@@ -163,7 +168,6 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 	 */
 	public void add(String suggestion) {
 		String candidate = normalizeSuggestion(suggestion);
-		candidate = Utils.unAccent(candidate);
 		// candidates --> real suggestions.
 		toRealSuggestions.put(candidate, suggestion);
 
@@ -183,13 +187,26 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 
 	/**
 	 * Adds all suggestions specified. Each suggestion must be plain text.
+	 * <p/>
+	 * Suggestions are loaded in bulk into compact read-only index (together with
+	 * suggestions previously loaded this way). Suggestions added later by {@link #add(String)}
+	 * are kept in separate structures and are searched too.
 	 *
 	 * @param collection the collection
 	 */
 	public final void addAll(Collection<String> collection) {
+
+		HashMap<String, String> loaded = new HashMap<String, String>();
+		if (compactIndex != null) {
+			for (int i = 0; i < compactIndex.candidates.length; i++) {
+				loaded.put(compactIndex.candidates[i], compactIndex.suggestions[i]);
+			}
+		}
 		for (String suggestion : collection) {
-			add(suggestion);
+			loaded.put(normalizeSuggestion(suggestion), suggestion);
 		}
+		compactIndex = new CompactIndex(loaded);
+
 	}
 
 	/**
@@ -199,6 +216,7 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 		tree.clear();
 		toCandidates.clear();
 		toRealSuggestions.clear();
+		compactIndex = null;
 	}
 
 	@Override
@@ -220,21 +238,19 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 		String query = normalizeSearch(request.getQuery());
 		int limit = request.getLimit();
 
-		// Get candidates from search words.
-		List<String> candidates = createCandidatesFromSearch(query);
-
-		// Respect limit for number of choices.
-		int numberTruncated = Math.max(0, candidates.size() - limit);
-		for (int i = candidates.size() - 1; i > limit; i--) {
-			candidates.remove(i);
-		}
+		// Get top candidates from search words, respect limit for number of choices.
+		Candidates candidates = createCandidatesFromSearch(query, limit);
 
 		// Convert candidates to suggestions.
 		List<MultiWordSuggestion> suggestions =
-				convertToFormattedSuggestions(query, candidates);
+				convertToFormattedSuggestions(query, candidates.top);
 
 		Response response = new Response(suggestions);
-		response.setMoreSuggestionsCount(numberTruncated);
+		if (candidates.total < 0) {
+			response.setMoreSuggestions(true);
+		} else {
+			response.setMoreSuggestionsCount(Math.max(0, candidates.total - candidates.top.size()));
+		}
 
 		callback.onSuggestionsReady(request, response);
 	}
@@ -304,6 +320,9 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 			int index = 0;
 			// Use real suggestion for assembly.
 			String formattedSuggestion = toRealSuggestions.get(candidate);
+			if (formattedSuggestion == null && compactIndex != null) {
+				formattedSuggestion = compactIndex.getSuggestion(candidate);
+			}
 
 			// Create strong search string.
 			SafeHtmlBuilder accum = new SafeHtmlBuilder();
@@ -342,37 +361,51 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 	}
 
 	/**
-	 * Find the sorted list of candidates that are matches for the given query.
+	 * Find the sorted list of top candidates that are matches for the given query.
+	 * <p/>
+	 * Only candidates within the limit are kept sorted. If all candidates are in read-only index
+	 * and sorted in natural order, single word search stops once it found enough candidates.
 	 */
-	private List<String> createCandidatesFromSearch(String query) {
-		ArrayList<String> candidates = new ArrayList<String>();
+	private Candidates createCandidatesFromSearch(String query, int limit) {
 
-		if (query.length() == 0) {
-			return candidates;
+		if (query.length() == 0 || limit <= 0) {
+			return new Candidates(new ArrayList<String>(), 0);
 		}
 
-		query = Utils.unAccent(query);
-
-		// Find all words to search for.
-		String[] searchWords = query.split(WHITESPACE_STRING);
-		HashSet<String> candidateSet = null;
-		for (int i = 0; i < searchWords.length; i++) {
-			String word = searchWords[i];
+		// Find all words to search for, eliminate bogus word choices.
+		List<String> searchWords = new ArrayList<String>();
+		for (String word : query.split(WHITESPACE_STRING)) {
+			if (word.length() != 0 && !word.matches(WHITESPACE_STRING)) {
+				searchWords.add(word);
+			}
+		}
 
-			// Eliminate bogus word choices.
-			if (word.length() == 0 || word.matches(WHITESPACE_STRING)) {
-				continue;
+		if (searchWords.size() == 1 && comparator == null && toCandidates.isEmpty() && compactIndex != null) {
+			// index keeps candidates in natural order
+			int[] ids = compactIndex.getFirstCandidates(searchWords.get(0), limit + 1);
+			List<String> top = new ArrayList<String>();
+			for (int i = 0; i < ids.length && i < limit; i++) {
+				top.add(compactIndex.candidates[ids[i]]);
 			}
+			return new Candidates(top, (ids.length > limit) ? -1 : top.size());
+		}
+
+		HashSet<String> candidateSet = null;
+		int[] indexedSet = null;
+		for (String word : searchWords) {
 
 			// Find the set of candidates that are associated with all the
 			// searchWords.
 			HashSet<String> thisWordChoices = createCandidatesFromWord(word);
+			int[] thisWordIndexed = (compactIndex != null) ? compactIndex.getCandidates(word) : new int[0];
 			if (candidateSet == null) {
 				candidateSet = thisWordChoices;
+				indexedSet = thisWordIndexed;
 			} else {
 				candidateSet.retainAll(thisWordChoices);
+				indexedSet = CompactIndex.intersect(indexedSet, thisWordIndexed);
 
-				if (candidateSet.size() < 2) {
+				if (candidateSet.size() + indexedSet.length < 2) {
 					// If there is only one candidate, on average it is cheaper to
 					// check if that candidate contains our search string than to
 					// continue intersecting suggestion sets.
@@ -380,11 +413,35 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 				}
 			}
 		}
-		if (candidateSet != null) {
-			candidates.addAll(candidateSet);
-			Collections.sort(candidates, comparator);
+		if (candidateSet == null) {
+			return new Candidates(new ArrayList<String>(), 0);
+		}
+
+		// Keep only top candidates, the worst one is the head of the queue.
+		PriorityQueue<String> top = new PriorityQueue<String>(limit + 1,
+				(comparator != null) ? Collections.reverseOrder(comparator) : Collections.<String>reverseOrder());
+		int total = 0;
+		for (String candidate : candidateSet) {
+			offerCandidate(top, candidate, limit);
+			total++;
+		}
+		for (int id : indexedSet) {
+			if (!candidateSet.contains(compactIndex.candidates[id])) {
+				offerCandidate(top, compactIndex.candidates[id], limit);
+				total++;
+			}
+		}
+
+		List<String> candidates = new ArrayList<String>(top);
+		Collections.sort(candidates, comparator);
+		return new Candidates(candidates, total);
+	}
+
+	private static void offerCandidate(PriorityQueue<String> top, String candidate, int limit) {
+		top.add(candidate);
+		if (top.size() > limit) {
+			top.poll();
 		}
-		return candidates;
 	}
 
 	/**
@@ -395,6 +452,9 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 	 */
 	private HashSet<String> createCandidatesFromWord(String query) {
 		HashSet<String> candidateSet = new HashSet<String>();
+		if (toCandidates.isEmpty()) {
+			return candidateSet;
+		}
 		List<String> words = tree.getSuggestions(query, Integer.MAX_VALUE);
 		if (words != null) {
 			// Find all candidates that contain the given word the search is a
@@ -468,4 +528,236 @@ public class UnaccentMultiWordSuggestOracle extends SuggestOracle {
 
 		return formattedSuggestion;
 	}
+
+	/**
+	 * Top candidates of a search with total number of found candidates.
+	 */
+	private static class Candidates {
+
+		private final List<String> top;
+
+		/**
+		 * Number of all found candidates or -1 if not known
+		 * (search stopped before all candidates were found).
+		 */
+		private final int total;
+
+		Candidates(List<String> top, int total) {
+			this.top = top;
+			this.total = total;
+		}
+
+	}
+
+	/**
+	 * Compact read-only index of suggestions.
+	 * <p/>
+	 * Candidates (normalized suggestions) are kept in sorted array, so they are
+	 * identified by their position. Words of all candidates are kept in another sorted array
+	 * together with sorted positions of candidates they belong to. Words starting
+	 * with searched prefix form continuous range found by binary search.
+	 */
+	private static class CompactIndex {
+
+		private final String[] candidates;
+		private final String[] suggestions;
+		private final String[] words;
+		private final int[][] postings;
+
+		/**
+		 * Build index.
+		 *
+		 * @param toRealSuggestions map of candidates to their real suggestions
+		 */
+		CompactIndex(Map<String, String> toRealSuggestions) {
+
+			candidates = toRealSuggestions.keySet().toArray(new String[toRealSuggestions.size()]);
+			Arrays.sort(candidates);
+			suggestions = new String[candidates.length];
+
+			// candidates are processed in order, so ids in each posting list are sorted
+			HashMap<String, int[]> toPostings = new HashMap<String, int[]>();
+			for (int i = 0; i < candidates.length; i++) {
+				suggestions[i] = toRealSuggestions.get(candidates[i]);
+				for (String word : candidates[i].split(WHITESPACE_STRING)) {
+					int[] posting = toPostings.get(word);
+					if (posting == null) {
+						// first item is the number of used items
+						posting = new int[3];
+						toPostings.put(word, posting);
+					}
+					if (posting[0] > 0 && posting[posting[0]] == i) continue;
+					if (posting[0] + 1 == posting.length) {
+						posting = Arrays.copyOf(posting, posting.length * 2);
+						toPostings.put(word, posting);
+					}
+					posting[++posting[0]] = i;
+				}
+			}
+
+			words = toPostings.keySet().toArray(new String[toPostings.size()]);
+			Arrays.sort(words);
+			postings = new int[words.length][];
+			for (int i = 0; i < words.length; i++) {
+				int[] posting = toPostings.get(words[i]);
+				postings[i] = Arrays.copyOfRange(posting, 1, posting[0] + 1);
+			}
+
+		}
+
+		/**
+		 * Return sorted ids of candidates containing word starting with prefix.
+		 *
+		 * @param prefix prefix of a word
+		 * @return sorted ids of candidates
+		 */
+		int[] getCandidates(String prefix) {
+
+			int start = lowerBound(words, prefix);
+			int end = upperBound(words, prefix, start);
+
+			if (end == start) return new int[0];
+			if (end - start == 1) return postings[start];
+
+			int size = 0;
+			for (int i = start; i < end; i++) {
+				size += postings[i].length;
+			}
+			int[] result = new int[size];
+			int position = 0;
+			for (int i = start; i < end; i++) {
+				System.arraycopy(postings[i], 0, result, position, postings[i].length);
+				position += postings[i].length;
+			}
+			Arrays.sort(result);
+
+			// remove duplicates
+			int unique = 0;
+			for (int i = 0; i < result.length; i++) {
+				if (i == 0 || result[i] != result[i - 1]) {
+					result[unique++] = result[i];
+				}
+			}
+			return Arrays.copyOf(result, unique);
+
+		}
+
+		/**
+		 * Return first (lowest) sorted ids of candidates containing word starting with prefix.
+		 * Posting lists of matching words are merged only until enough ids is found.
+		 *
+		 * @param prefix prefix of a word
+		 * @param count maximum number of returned ids
+		 * @return sorted ids of candidates
+		 */
+		int[] getFirstCandidates(String prefix, int count) {
+
+			int start = lowerBound(words, prefix);
+			int end = upperBound(words, prefix, start);
+
+			if (end == start) return new int[0];
+			if (end - start == 1) {
+				return (postings[start].length > count) ? Arrays.copyOf(postings[start], count) : postings[start];
+			}
+
+			// heads of posting lists as {id, word, position in posting}
+			PriorityQueue<int[]> heads = new PriorityQueue<int[]>(end - start, new Comparator<int[]>() {
+				@Override
+				public int compare(int[] o1, int[] o2) {
+					return (o1[0] < o2[0]) ? -1 : ((o1[0] == o2[0]) ? 0 : 1);
+				}
+			});
+			for (int i = start; i < end; i++) {
+				heads.add(new int[]{postings[i][0], i, 0});
+			}
+
+			int[] result = new int[count];
+			int size = 0;
+			while (!heads.isEmpty() && size < count) {
+				int[] head = heads.poll();
+				if (size == 0 || result[size - 1] != head[0]) {
+					result[size++] = head[0];
+				}
+				if (++head[2] < postings[head[1]].length) {
+					head[0] = postings[head[1]][head[2]];
+					heads.add(head);
+				}
+			}
+			return Arrays.copyOf(result, size);
+
+		}
+
+		/**
+		 * Return real suggestion of a candidate.
+		 *
+		 * @param candidate normalized suggestion
+		 * @return real suggestion or null if candidate is not present
+		 */
+		String getSuggestion(String candidate) {
+			int position = Arrays.binarySearch(candidates, candidate);
+			return (position >= 0) ? suggestions[position] : null;
+		}
+
+		/**
+		 * Return intersection of two sorted arrays of ids.
+		 *
+		 * @param first sorted ids
+		 * @param second sorted ids
+		 * @return sorted ids present in both arrays
+		 */
+		static int[] intersect(int[] first, int[] second) {
+			int[] result = new int[Math.min(first.length, second.length)];
+			int size = 0;
+			int i = 0;
+			int j = 0;
+			while (i < first.length && j < second.length) {
+				if (first[i] < second[j]) {
+					i++;
+				} else if (first[i] > second[j]) {
+					j++;
+				} else {
+					result[size++] = first[i];
+					i++;
+					j++;
+				}
+			}
+			return Arrays.copyOf(result, size);
+		}
+
+		/**
+		 * Return position of first word, which is not lower than the prefix.
+		 */
+		private static int lowerBound(String[] words, String prefix) {
+			int low = 0;
+			int high = words.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (words[middle].compareTo(prefix) < 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Return position after last word starting with the prefix.
+		 */
+		private static int upperBound(String[] words, String prefix, int start) {
+			int low = start;
+			int high = words.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (words[middle].startsWith(prefix)) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+	}
+
 }
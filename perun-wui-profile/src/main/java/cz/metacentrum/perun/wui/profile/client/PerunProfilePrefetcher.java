@@ -0,0 +1,177 @@
+package cz.metacentrum.perun.wui.profile.client;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.http.client.Request;
+import com.gwtplatform.mvp.client.proxy.PlaceManager;
+import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
+import cz.metacentrum.perun.wui.client.PerunPlaceManager;
+import cz.metacentrum.perun.wui.client.resources.PerunSession;
+import cz.metacentrum.perun.wui.client.utils.JsUtils;
+import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonPrefetch;
+import cz.metacentrum.perun.wui.json.managers.AttributesManager;
+import cz.metacentrum.perun.wui.json.managers.MembersManager;
+import cz.metacentrum.perun.wui.json.managers.UsersManager;
+import cz.metacentrum.perun.wui.model.PerunException;
+import cz.metacentrum.perun.wui.model.beans.Member;
+import cz.metacentrum.perun.wui.model.beans.UserExtSource;
+import cz.metacentrum.perun.wui.model.beans.Vo;
+import cz.metacentrum.perun.wui.profile.client.resources.PerunProfilePlaceTokens;
+
+import java.util.List;
+
+/**
+ * Loads data of profile pages before they are revealed, e.g. on hover over menu items.
+ * Pages are split by @ProxyCodeSplit, so prefetchers live outside of them.
+ * <p/>
+ * Warmed responses are used only by exactly the same calls, so pages must make
+ * their prefetched calls by methods of this class.
+ *
+ * @see PerunPlaceManager#registerPrefetcher(String, PerunPlaceManager.PlacePrefetcher)
+ */
+public class PerunProfilePrefetcher {
+
+	private PerunProfilePrefetcher() {
+	}
+
+	/**
+	 * Register prefetchers of profile pages.
+	 *
+	 * @param placeManager place manager of the app
+	 */
+	public static void register(PlaceManager placeManager) {
+
+		if (!(placeManager instanceof PerunPlaceManager)) return;
+
+		PerunPlaceManager perunPlaceManager = (PerunPlaceManager) placeManager;
+		perunPlaceManager.registerPrefetcher(PerunProfilePlaceTokens.ORGANIZATIONS, PerunProfilePrefetcher::prefetchOrganizations);
+		perunPlaceManager.registerPrefetcher(PerunProfilePlaceTokens.GROUPS, PerunProfilePrefetcher::prefetchGroups);
+		perunPlaceManager.registerPrefetcher(PerunProfilePlaceTokens.IDENTITIES, PerunProfilePrefetcher::prefetchIdentities);
+
+	}
+
+	// calls made by both pages and prefetchers
+
+	public static Request getVosWhereUserIsMember(int userId, JsonEvents events) {
+		return UsersManager.getVosWhereUserIsMember(userId, events);
+	}
+
+	public static Request getMemberByUser(int userId, int voId, JsonEvents events) {
+		return MembersManager.getMemberByUser(userId, voId, events);
+	}
+
+	public static Request getRichMemberWithAttributes(int memberId, JsonEvents events) {
+		return MembersManager.getRichMemberWithAttributes(memberId, events);
+	}
+
+	public static Request getGroupsWhereUserIsAdmin(int userId, int voId, JsonEvents events) {
+		return UsersManager.getGroupsWhereUserIsAdmin(userId, voId, events);
+	}
+
+	public static Request getUserExtSources(int userId, JsonEvents events) {
+		return UsersManager.getUserExtSources(userId, events);
+	}
+
+	public static Request getUesAttributes(int uesId, JsonEvents events) {
+		return AttributesManager.getUesAttributes(uesId, events);
+	}
+
+	/**
+	 * Loads VOs and rich members displayed by Organizations page.
+	 *
+	 * @param request place request of the page
+	 */
+	private static void prefetchOrganizations(PlaceRequest request) {
+
+		Integer userId = PerunProfileUtils.getUserId(request);
+		if (userId == null) return;
+
+		getVosWhereUserIsMember(userId, new PrefetchEvents() {
+			@Override
+			public void onFinished(JavaScriptObject result) {
+				List<Vo> vos = JsUtils.jsoAsListView(result);
+				JsonPrefetch.run(() -> {
+					for (Vo vo : vos) {
+						getMemberByUser(userId, vo.getId(), new PrefetchEvents() {
+							@Override
+							public void onFinished(JavaScriptObject jso) {
+								Member member = (Member) jso;
+								JsonPrefetch.run(() -> getRichMemberWithAttributes(member.getId(), null));
+							}
+						});
+					}
+				});
+			}
+		});
+
+	}
+
+	/**
+	 * Loads VOs and data of single VO displayed by Groups page. Member groups are not
+	 * prefetched, since they are loaded by long running call.
+	 *
+	 * @param request place request of the page
+	 */
+	private static void prefetchGroups(PlaceRequest request) {
+
+		Integer userId = PerunProfileUtils.getUserId(request);
+		if (userId == null || !PerunSession.getInstance().isSelf(userId)) return;
+
+		getVosWhereUserIsMember(userId, new PrefetchEvents() {
+			@Override
+			public void onFinished(JavaScriptObject result) {
+				List<Vo> vos = JsUtils.jsoAsListView(result);
+				// data of VO are loaded by page only when user is member of single VO
+				if (vos.size() != 1) return;
+				int voId = vos.get(0).getId();
+				JsonPrefetch.run(() -> {
+					getMemberByUser(userId, voId, null);
+					getGroupsWhereUserIsAdmin(userId, voId, null);
+				});
+			}
+		});
+
+	}
+
+	/**
+	 * Loads identities and their attributes displayed by Identities page.
+	 *
+	 * @param request place request of the page
+	 */
+	private static void prefetchIdentities(PlaceRequest request) {
+
+		Integer userId = PerunProfileUtils.getUserId(request);
+		if (userId == null) return;
+
+		getUserExtSources(userId, new PrefetchEvents() {
+			@Override
+			public void onFinished(JavaScriptObject result) {
+				List<UserExtSource> userExtSources = JsUtils.jsoAsListView(result);
+				JsonPrefetch.run(() -> {
+					for (UserExtSource ues : userExtSources) {
+						getUesAttributes(ues.getId(), null);
+					}
+				});
+			}
+		});
+
+	}
+
+	/**
+	 * Events of prefetched calls, errors are ignored since page makes the call again.
+	 */
+	private static abstract class PrefetchEvents implements JsonEvents {
+
+		@Override
+		public void onError(PerunException error) {
+			// page will load it again
+		}
+
+		@Override
+		public void onLoadingStart() {
+			// do nothing
+		}
+
+	}
+
+}
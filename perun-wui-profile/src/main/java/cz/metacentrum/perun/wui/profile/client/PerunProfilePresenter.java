@@ -6,9 +6,18 @@ import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.ProxyStandard;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.Proxy;
+import cz.metacentrum.perun.wui.client.PerunPrefetcher;
 import cz.metacentrum.perun.wui.client.PerunPresenter;
+import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfilePlaceTokens;
+import cz.metacentrum.perun.wui.profile.pages.groups.GroupsPresenter;
+import cz.metacentrum.perun.wui.profile.pages.identities.IdentitiesPresenter;
+import cz.metacentrum.perun.wui.profile.pages.organizations.OrganizationsPresenter;
+import cz.metacentrum.perun.wui.profile.pages.personal.PersonalPresenter;
+import cz.metacentrum.perun.wui.profile.pages.privacy.PrivacyPresenter;
+import cz.metacentrum.perun.wui.profile.pages.resources.ResourcesPresenter;
+import cz.metacentrum.perun.wui.profile.pages.settings.SettingsPresenter;
 
 /**
  * Main presenter for User profile app.
@@ -24,13 +33,24 @@ public class PerunProfilePresenter extends PerunPresenter<PerunProfilePresenter.
 
     public interface MyView extends View {
 	    public void setActiveMenuItem(String anchor);
+	    public void applyConfiguration();
     }
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
     @Inject
-    PerunProfilePresenter(EventBus eventBus, MyView view, MyProxy proxy) {
+    PerunProfilePresenter(EventBus eventBus, MyView view, MyProxy proxy,
+                          PersonalPresenter.MyProxy personal, OrganizationsPresenter.MyProxy organizations,
+                          GroupsPresenter.MyProxy groups, ResourcesPresenter.MyProxy resources,
+                          IdentitiesPresenter.MyProxy identities, SettingsPresenter.MyProxy settings,
+                          PrivacyPresenter.MyProxy privacy) {
         super(eventBus, view, proxy);
+        // configuration revalidated after page was revealed might differ
+        PerunConfiguration.addChangeHandler(() -> getView().applyConfiguration());
+        // load code of pages in order of menu items
+        PerunPrefetcher.register(eventBus, personal, organizations, groups, resources, identities, settings, privacy);
+        // load data of pages on hover over menu items
+        PerunProfilePrefetcher.register(placeManager);
     }
 
 	@Override
@@ -1,6 +1,7 @@
 package cz.metacentrum.perun.wui.profile.client;
 
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
+import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 
@@ -66,6 +67,26 @@ public class PerunProfileUtils {
 		return null;
 	}
 
+	/**
+	 * Returns id of user, whose profile is displayed by place request
+	 *
+	 * @param request place request
+	 * @return user's id or null when id is not valid
+	 */
+	public static Integer getUserId(PlaceRequest request) {
+		try {
+			String userId = request.getParameter("id", null);
+			if (userId == null) {
+				userId = String.valueOf(PerunSession.getInstance().getUserId());
+			}
+
+			final int id = Integer.valueOf(userId);
+			return (id < 1) ? null : id;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Checks if given value is valid ssh key
 	 *
@@ -2,6 +2,8 @@ package cz.metacentrum.perun.wui.profile.client;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.MouseOverEvent;
+import com.google.gwt.event.dom.client.TouchStartEvent;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiField;
@@ -14,8 +16,11 @@ import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
 import com.gwtplatform.mvp.client.ViewImpl;
+import com.gwtplatform.mvp.client.proxy.PlaceManager;
+import cz.metacentrum.perun.wui.client.PerunPlaceManager;
 import cz.metacentrum.perun.wui.client.PerunPresenter;
 import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
+import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.client.utils.UiUtils;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfilePlaceTokens;
@@ -32,6 +37,7 @@ import org.gwtbootstrap3.client.ui.constants.Toggle;
 import org.gwtbootstrap3.client.ui.html.Div;
 import org.gwtbootstrap3.client.ui.html.Span;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -80,6 +86,9 @@ public class PerunProfileView extends ViewImpl implements PerunProfilePresenter.
 
 	@UiField NavPills menuPills;
 
+	// brand defined by template, used when configuration doesn't set title
+	private String defaultBrand;
+
 /*	@UiHandler(value="logout")
 	public void logoutClick(ClickEvent event) {
 		History.newItem("logout");
@@ -107,16 +116,54 @@ public class PerunProfileView extends ViewImpl implements PerunProfilePresenter.
 
 		initWidget(binder.createAndBindUi(this));
 
-		if (PerunConfiguration.isHeaderDisabled()) {
-			menuWrapper.setVisible(false);
+		defaultBrand = brand.getText();
+		applyConfiguration();
+
+		if (!PerunConfiguration.isLangSwitchingDisabled()) {
+			UiUtils.addLanguageSwitcher(topMenu);
 		}
 
+		// We must set data toggle when text is changed otherwise its wrongly ordered
+		topMenuMyProfile.setDataToggle(Toggle.DROPDOWN);
+
+		Element elem = DOM.getElementById("perun-help");
+		if (elem != null) {
+			elem.setInnerHTML(translation.supportAt(SafeHtmlUtils.fromString(PerunConfiguration.getBrandSupportMail()).asString()));
+		}
+		Element elem2 = DOM.getElementById("perun-credits");
+		if (elem2 != null) {
+			elem2.setInnerHTML(translation.credits(JsUtils.getCurrentYear()));
+		}
+
+		// load data of page before user clicks on menu item
+		for (AnchorListItem item : Arrays.asList(personal, organizations, groups, resources, identities, privacy, settings,
+				personalXS, organizationsXS, groupsXS, resourcesXS, identitiesXS, privacyXS, settingsXS)) {
+			item.addDomHandler(event -> prefetch(item), MouseOverEvent.getType());
+			item.addDomHandler(event -> prefetch(item), TouchStartEvent.getType());
+		}
+	}
+
+	private void prefetch(AnchorListItem item) {
+		PlaceManager placeManager = PerunSession.getPlaceManager();
+		if (placeManager instanceof PerunPlaceManager) {
+			((PerunPlaceManager) placeManager).prefetch(item.getTargetHistoryToken());
+		}
+	}
+
+	@Override
+	public void applyConfiguration() {
+
+		menuWrapper.setVisible(!PerunConfiguration.isHeaderDisabled());
+
 		// set Title from property if any
 		if (PerunConfiguration.getBrandProfileTitle() != null) {
 			brand.setText(PerunConfiguration.getBrandProfileTitle());
+		} else {
+			brand.setText(defaultBrand);
 		}
 
 		// put logo
+		logoWrapper.clear();
 		Image logo = PerunConfiguration.getBrandLogo();
 		logo.setWidth("auto");
 		logo.setHeight("50px");
@@ -130,40 +177,31 @@ public class PerunProfileView extends ViewImpl implements PerunProfilePresenter.
 			logoWrapper.add(a);
 		}
 
-		if (!PerunConfiguration.isLangSwitchingDisabled()) {
-			UiUtils.addLanguageSwitcher(topMenu);
-		}
-
-		// We must set data toggle when text is changed otherwise its wrongly ordered
-		topMenuMyProfile.setDataToggle(Toggle.DROPDOWN);
-
-		Element elem = DOM.getElementById("perun-help");
-		if (elem != null) {
-			elem.setInnerHTML(translation.supportAt(SafeHtmlUtils.fromString(PerunConfiguration.getBrandSupportMail()).asString()));
-		}
-		Element elem2 = DOM.getElementById("perun-credits");
-		if (elem2 != null) {
-			elem2.setInnerHTML(translation.credits(JsUtils.getCurrentYear()));
-		}
-
 		applyHideConfiguration();
+
 	}
 
 	private void applyHideConfiguration() {
-		setPageVisibility(PerunProfilePlaceTokens.ORGANIZATIONS, organizations, organizationsXS);
-		setPageVisibility(PerunProfilePlaceTokens.GROUPS, groups, groupsXS);
-		setPageVisibility(PerunProfilePlaceTokens.RESOURCES, resources, resourcesXS);
-		setPageVisibility(PerunProfilePlaceTokens.IDENTITIES, identities, identitiesXS);
-		setPageVisibility(PerunProfilePlaceTokens.PRIVACY, privacy, privacyXS);
-		setPageVisibility(PerunProfilePlaceTokens.SETTINGS, settings, settingsXS);
+		List<String> pagesToHide = PerunConfiguration.getProfilePagesToHide();
+		// keep order of top menu items, when hidden ones are shown again
+		int position = topMenu.getWidgetIndex(personalXS) + 1;
+		position = setPageVisibility(pagesToHide, PerunProfilePlaceTokens.GROUPS, groups, groupsXS, position);
+		position = setPageVisibility(pagesToHide, PerunProfilePlaceTokens.IDENTITIES, identities, identitiesXS, position);
+		position = setPageVisibility(pagesToHide, PerunProfilePlaceTokens.RESOURCES, resources, resourcesXS, position);
+		position = setPageVisibility(pagesToHide, PerunProfilePlaceTokens.ORGANIZATIONS, organizations, organizationsXS, position);
+		position = setPageVisibility(pagesToHide, PerunProfilePlaceTokens.PRIVACY, privacy, privacyXS, position);
+		setPageVisibility(pagesToHide, PerunProfilePlaceTokens.SETTINGS, settings, settingsXS, position);
 	}
 
-	private void setPageVisibility(String name, Widget mainMenuItem, Widget topMenuItem) {
-		List<String> pagesToHide = PerunConfiguration.getProfilePagesToHide();
+	private int setPageVisibility(List<String> pagesToHide, String name, Widget mainMenuItem, Widget topMenuItem, int position) {
 		if (pagesToHide.contains(name)) {
 			topMenuItem.removeFromParent(); // hiding doesn't work since bootstraps "visibleOn" takes place -> remove from parent
 			mainMenuItem.setVisible(false);
+			return position;
 		}
+		if (topMenuItem.getParent() == null) topMenu.insert(topMenuItem, position);
+		mainMenuItem.setVisible(true);
+		return position + 1;
 	}
 
 	@Override
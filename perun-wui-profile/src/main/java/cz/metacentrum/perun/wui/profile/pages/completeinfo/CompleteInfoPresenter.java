@@ -8,7 +8,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -50,7 +50,7 @@ public class CompleteInfoPresenter extends Presenter<CompleteInfoPresenter.MyVie
 	}
 
 	@NameToken(PerunProfilePlaceTokens.COMPLETE_INFO)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<CompleteInfoPresenter> {
 
 	}
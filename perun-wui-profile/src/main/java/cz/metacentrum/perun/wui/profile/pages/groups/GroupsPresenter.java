@@ -8,7 +8,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -16,13 +16,13 @@ import cz.metacentrum.perun.wui.client.PerunPresenter;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonRequestScope;
 import cz.metacentrum.perun.wui.json.managers.GroupsManager;
-import cz.metacentrum.perun.wui.json.managers.MembersManager;
-import cz.metacentrum.perun.wui.json.managers.UsersManager;
 import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.model.beans.Group;
 import cz.metacentrum.perun.wui.model.beans.Member;
 import cz.metacentrum.perun.wui.model.beans.Vo;
+import cz.metacentrum.perun.wui.profile.client.PerunProfilePrefetcher;
 import cz.metacentrum.perun.wui.profile.client.PerunProfileUtils;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfilePlaceTokens;
 
@@ -35,6 +35,10 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
+	private JsonRequestScope requestScope = new JsonRequestScope();
+	// calls loading data of selected VO, cancelled when other VO is selected
+	private JsonRequestScope groupsScope = new JsonRequestScope();
+
 	public interface MyView extends View, HasUiHandlers<GroupsUiHandlers> {
 
 		void setVosError(PerunException error);
@@ -55,7 +59,7 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 	}
 
 	@NameToken(PerunProfilePlaceTokens.GROUPS)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<GroupsPresenter> {
 
 	}
@@ -71,6 +75,13 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 		loadVos();
 	}
 
+	@Override
+	protected void onHide() {
+		super.onHide();
+		requestScope.cancelAll();
+		groupsScope.cancelAll();
+	}
+
 	@Override
 	public void loadVos() {
 
@@ -99,11 +110,12 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 			return;
 		}
 
+		groupsScope.cancelAll();
 		loadMemberAndGroups(userId, voId);
 	}
 
 	private void loadAdminGroups(int userId, int voId) {
-		UsersManager.getGroupsWhereUserIsAdmin(userId, voId, new JsonEvents() {
+		PerunProfilePrefetcher.getGroupsWhereUserIsAdmin(userId, voId, groupsScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				getView().setAdminGroups(JsUtils.jsoAsList(result));
@@ -120,11 +132,11 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 			public void onLoadingStart() {
 				// do nothing
 			}
-		});
+		}));
 	}
 
 	private void loadGroups(int memberId, int userId, int voId) {
-		GroupsManager.getMemberGroups(memberId, new JsonEvents() {
+		GroupsManager.getMemberGroups(memberId, groupsScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				getView().setMemberGroups(JsUtils.jsoAsList(result));
@@ -141,11 +153,11 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 			public void onLoadingStart() {
 				// do nothing
 			}
-		});
+		}));
 	}
 
 	private void loadMemberAndGroups(int userId, int voId) {
-		MembersManager.getMemberByUser(userId, voId, new JsonEvents() {
+		PerunProfilePrefetcher.getMemberByUser(userId, voId, groupsScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				Member member = (Member) result;
@@ -161,11 +173,11 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 			public void onLoadingStart() {
 				getView().loadVoDataStart();
 			}
-		});
+		}));
 	}
 
 	private void loadVos(int userId) {
-		UsersManager.getVosWhereUserIsMember(userId, new JsonEvents() {
+		PerunProfilePrefetcher.getVosWhereUserIsMember(userId, requestScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				getView().setVos(JsUtils.jsoAsList(result));
@@ -180,6 +192,6 @@ public class GroupsPresenter extends Presenter<GroupsPresenter.MyView, GroupsPre
 			public void onLoadingStart() {
 				getView().loadVosStart();
 			}
-		});
+		}));
 	}
 }
@@ -9,7 +9,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -18,7 +18,7 @@ import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.client.utils.Utils;
 import cz.metacentrum.perun.wui.json.JsonEvents;
-import cz.metacentrum.perun.wui.json.managers.AttributesManager;
+import cz.metacentrum.perun.wui.json.JsonRequestScope;
 import cz.metacentrum.perun.wui.json.managers.RegistrarManager;
 import cz.metacentrum.perun.wui.json.managers.UsersManager;
 import cz.metacentrum.perun.wui.model.BasicOverlayObject;
@@ -26,6 +26,7 @@ import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.model.beans.Attribute;
 import cz.metacentrum.perun.wui.profile.model.beans.RichUserExtSource;
 import cz.metacentrum.perun.wui.model.beans.UserExtSource;
+import cz.metacentrum.perun.wui.profile.client.PerunProfilePrefetcher;
 import cz.metacentrum.perun.wui.profile.client.PerunProfileUtils;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfilePlaceTokens;
 
@@ -41,6 +42,8 @@ public class IdentitiesPresenter extends Presenter<IdentitiesPresenter.MyView, I
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
+	private JsonRequestScope requestScope = new JsonRequestScope();
+
 	public interface MyView extends View, HasUiHandlers<IdentitiesUiHandlers> {
 		void loadingUserExtSourcesStart();
 		void loadingUserExtSourcesError(PerunException ex);
@@ -53,7 +56,7 @@ public class IdentitiesPresenter extends Presenter<IdentitiesPresenter.MyView, I
 	}
 
 	@NameToken(PerunProfilePlaceTokens.IDENTITIES)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<IdentitiesPresenter> {
 	}
 
@@ -70,6 +73,12 @@ public class IdentitiesPresenter extends Presenter<IdentitiesPresenter.MyView, I
 		loadUserExtSources();
 	}
 
+	@Override
+	protected void onHide() {
+		super.onHide();
+		requestScope.cancelAll();
+	}
+
 
 
 	@Override
@@ -83,7 +92,7 @@ public class IdentitiesPresenter extends Presenter<IdentitiesPresenter.MyView, I
 		} else {
 			getView().clearUserExtSources();
 
-			UsersManager.getUserExtSources(userId, new JsonEvents() {
+			PerunProfilePrefetcher.getUserExtSources(userId, requestScope.events(new JsonEvents() {
 
 				@Override
 				public void onFinished(JavaScriptObject result) {
@@ -104,12 +113,12 @@ public class IdentitiesPresenter extends Presenter<IdentitiesPresenter.MyView, I
 					getView().loadingUserExtSourcesStart();
 				}
 
-			});
+			}));
 		}
 	}
 
 	private void loadAttributes(UserExtSource ues) {
-		AttributesManager.getUesAttributes(ues.getId(), new JsonEvents() {
+		PerunProfilePrefetcher.getUesAttributes(ues.getId(), requestScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				ArrayList<Attribute> attributes = JsUtils.jsoAsList(result);
@@ -126,7 +135,7 @@ public class IdentitiesPresenter extends Presenter<IdentitiesPresenter.MyView, I
 			public void onLoadingStart() {
 				getView().loadingUserExtSourcesStart();
 			}
-		});
+		}));
 	}
 
 	@Override
@@ -9,7 +9,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -19,12 +19,12 @@ import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.client.utils.Utils;
 import cz.metacentrum.perun.wui.json.AbstractRepeatingJsonEvent;
 import cz.metacentrum.perun.wui.json.JsonEvents;
-import cz.metacentrum.perun.wui.json.managers.MembersManager;
-import cz.metacentrum.perun.wui.json.managers.UsersManager;
+import cz.metacentrum.perun.wui.json.JsonRequestScope;
 import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.model.beans.Member;
 import cz.metacentrum.perun.wui.model.beans.RichMember;
 import cz.metacentrum.perun.wui.model.beans.Vo;
+import cz.metacentrum.perun.wui.profile.client.PerunProfilePrefetcher;
 import cz.metacentrum.perun.wui.profile.client.PerunProfileUtils;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfilePlaceTokens;
 
@@ -47,8 +47,10 @@ public class OrganizationsPresenter extends Presenter<OrganizationsPresenter.MyV
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
+	private JsonRequestScope requestScope = new JsonRequestScope();
+
 	@NameToken(PerunProfilePlaceTokens.ORGANIZATIONS)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<OrganizationsPresenter> {
 
 	}
@@ -64,6 +66,12 @@ public class OrganizationsPresenter extends Presenter<OrganizationsPresenter.MyV
 		loadData();
 	}
 
+	@Override
+	protected void onHide() {
+		super.onHide();
+		requestScope.cancelAll();
+	}
+
 	@Override
 	public void extendMembership(Vo vo) {
 		Window.Location.assign(Utils.getMembershipExtendLink(vo));
@@ -83,7 +91,7 @@ public class OrganizationsPresenter extends Presenter<OrganizationsPresenter.MyV
 	}
 
 	private void loadData(Integer userId) {
-		UsersManager.getVosWhereUserIsMember(userId, new JsonEvents() {
+		PerunProfilePrefetcher.getVosWhereUserIsMember(userId, requestScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				List<Vo> vos = JsUtils.jsoAsList(result);
@@ -100,7 +108,7 @@ public class OrganizationsPresenter extends Presenter<OrganizationsPresenter.MyV
 			public void onLoadingStart() {
 				getView().onLoadingStart();
 			}
-		});
+		}));
 	}
 
 	private void loadMembersToVos(int userId, List<Vo> vos) {
@@ -123,7 +131,7 @@ public class OrganizationsPresenter extends Presenter<OrganizationsPresenter.MyV
 		};
 
 		for (Vo vo: vos) {
-			MembersManager.getMemberByUser(userId, vo.getId(), getMemberByUserRepeating);
+			PerunProfilePrefetcher.getMemberByUser(userId, vo.getId(), requestScope.events(getMemberByUserRepeating));
 		}
 	}
 
@@ -157,7 +165,7 @@ public class OrganizationsPresenter extends Presenter<OrganizationsPresenter.MyV
 		};
 
 		for (Member member : members) {
-			MembersManager.getRichMemberWithAttributes(member.getId(), richMembersRepeatingEvent);
+			PerunProfilePrefetcher.getRichMemberWithAttributes(member.getId(), requestScope.events(richMembersRepeatingEvent));
 		}
 	}
 }
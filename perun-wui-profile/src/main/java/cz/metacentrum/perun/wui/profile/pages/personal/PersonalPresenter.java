@@ -9,7 +9,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -58,7 +58,7 @@ public class PersonalPresenter extends Presenter<PersonalPresenter.MyView, Perso
 	}
 
 	@NameToken(PerunProfilePlaceTokens.PERSONAL)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<PersonalPresenter> {
 	}
 
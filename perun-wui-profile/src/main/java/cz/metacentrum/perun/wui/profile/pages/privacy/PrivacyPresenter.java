@@ -9,7 +9,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -17,6 +17,8 @@ import cz.metacentrum.perun.wui.client.PerunPresenter;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonRequestScope;
+import cz.metacentrum.perun.wui.json.JsonScheduler;
 import cz.metacentrum.perun.wui.json.managers.AttributesManager;
 import cz.metacentrum.perun.wui.json.managers.UsersManager;
 import cz.metacentrum.perun.wui.model.PerunException;
@@ -34,6 +36,8 @@ public class PrivacyPresenter extends Presenter<PrivacyPresenter.MyView, Privacy
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
+	private JsonRequestScope requestScope = new JsonRequestScope();
+
 	//TODO: change this to proper attribute
 	private static final String ATTRIBUTE_NAME = "urn:perun:vo:attribute-def:def:aupLink";
 
@@ -49,7 +53,7 @@ public class PrivacyPresenter extends Presenter<PrivacyPresenter.MyView, Privacy
 	}
 
 	@NameToken(PerunProfilePlaceTokens.PRIVACY)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<PrivacyPresenter> {
 
 	}
@@ -65,6 +69,12 @@ public class PrivacyPresenter extends Presenter<PrivacyPresenter.MyView, Privacy
 		loadVosData();
 	}
 
+	@Override
+	protected void onHide() {
+		super.onHide();
+		requestScope.cancelAll();
+	}
+
 	@Override
 	public void loadVosData() {
 		final Integer userId = PerunProfileUtils.getUserId(placeManager);
@@ -83,7 +93,7 @@ public class PrivacyPresenter extends Presenter<PrivacyPresenter.MyView, Privacy
 
 	private void loadVos(int userId) {
 
-		UsersManager.getVosWhereUserIsMember(userId, new JsonEvents() {
+		UsersManager.getVosWhereUserIsMember(userId, requestScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				List<Vo> vos = JsUtils.jsoAsList(result);
@@ -99,30 +109,32 @@ public class PrivacyPresenter extends Presenter<PrivacyPresenter.MyView, Privacy
 			public void onLoadingStart() {
 				getView().setLoadingStart();
 			}
-		});
+		}));
 	}
 
 	private void loadAttributes(List<Vo> vos) {
 		getView().clearVos();
 
-		for (Vo vo : vos) {
-			AttributesManager.getVoAttribute(vo.getId(), ATTRIBUTE_NAME, new JsonEvents() {
-				@Override
-				public void onFinished(JavaScriptObject result) {
-					Attribute attr = (Attribute) result;
-					getView().addVoWithAulAttribute(vo, attr);
-				}
-
-				@Override
-				public void onError(PerunException error) {
-					getView().setLoadingError(error);
-				}
-
-				@Override
-				public void onLoadingStart() {
-					getView().setLoadingStart();
-				}
-			});
-		}
+		JsonScheduler.withPriority(JsonScheduler.Priority.BACKGROUND, () -> {
+			for (Vo vo : vos) {
+				AttributesManager.getVoAttribute(vo.getId(), ATTRIBUTE_NAME, requestScope.events(new JsonEvents() {
+					@Override
+					public void onFinished(JavaScriptObject result) {
+						Attribute attr = (Attribute) result;
+						getView().addVoWithAulAttribute(vo, attr);
+					}
+
+					@Override
+					public void onError(PerunException error) {
+						getView().setLoadingError(error);
+					}
+
+					@Override
+					public void onLoadingStart() {
+						getView().setLoadingStart();
+					}
+				}));
+			}
+		});
 	}
 }
\ No newline at end of file
@@ -9,7 +9,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -18,6 +18,8 @@ import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.json.AbstractRepeatingJsonEvent;
 import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonRequestScope;
+import cz.metacentrum.perun.wui.json.JsonScheduler;
 import cz.metacentrum.perun.wui.json.managers.MembersManager;
 import cz.metacentrum.perun.wui.json.managers.ResourcesManager;
 import cz.metacentrum.perun.wui.json.managers.UsersManager;
@@ -42,6 +44,10 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
+	private JsonRequestScope requestScope = new JsonRequestScope();
+	// calls loading data of selected VO, cancelled when other VO is selected
+	private JsonRequestScope resourcesScope = new JsonRequestScope();
+
 	public interface MyView extends View, HasUiHandlers<ResourcesUiHandlers> {
 
 		void setVos(List<Vo> vos);
@@ -58,7 +64,7 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 	}
 
 	@NameToken(PerunProfilePlaceTokens.RESOURCES)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<ResourcesPresenter> {
 
 	}
@@ -74,6 +80,13 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 		loadVos();
 	}
 
+	@Override
+	protected void onHide() {
+		super.onHide();
+		requestScope.cancelAll();
+		resourcesScope.cancelAll();
+	}
+
 	@Override
 	public void loadVos() {
 
@@ -92,7 +105,7 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 	}
 
 	private void loadVos(int userId) {
-		UsersManager.getVosWhereUserIsMember(userId, new JsonEvents() {
+		UsersManager.getVosWhereUserIsMember(userId, requestScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				getView().setVos(JsUtils.jsoAsList(result));
@@ -107,7 +120,7 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 			public void onLoadingStart() {
 				getView().loadVosStart();
 			}
-		});
+		}));
 	}
 
 	@Override
@@ -121,11 +134,12 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 			return;
 		}
 
+		resourcesScope.cancelAll();
 		loadMemberAndResources(userId, voId);
 	}
 
 	private void loadMemberAndResources(Integer userId, int voId) {
-		MembersManager.getMemberByUser(userId, voId, new JsonEvents() {
+		MembersManager.getMemberByUser(userId, voId, resourcesScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				Member member = (Member) result;
@@ -141,11 +155,11 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 			public void onLoadingStart() {
 				getView().loadResourcesDataStart();
 			}
-		});
+		}));
 	}
 
 	private void loadResources(int id) {
-		ResourcesManager.getAssignedRichResources(id, new JsonEvents() {
+		ResourcesManager.getAssignedRichResources(id, resourcesScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				List<RichResource> resources = JsUtils.jsoAsList(result);
@@ -165,7 +179,7 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 			public void onLoadingStart() {
 				getView().loadResourcesDataStart();
 			}
-		});
+		}));
 	}
 
 	private void loadGroupsForResources(List<RichResource> richResources) {
@@ -195,9 +209,11 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 				}
 			};
 
-			for (RichResource resource : richResources) {
-				MembersManager.getMemberByUser(userId, resource.getVoId(), memberEvent);
-			}
+			JsonScheduler.withPriority(JsonScheduler.Priority.BACKGROUND, () -> {
+				for (RichResource resource : richResources) {
+					MembersManager.getMemberByUser(userId, resource.getVoId(), resourcesScope.events(memberEvent));
+				}
+			});
 		}
 	}
 
@@ -232,11 +248,13 @@ public class ResourcesPresenter extends Presenter<ResourcesPresenter.MyView, Res
 			}
 		};
 
-		for (int i = 0; i < members.size(); i++) {
-			Member member = members.get(i);
-			Resource resource = resources.get(i);
+		JsonScheduler.withPriority(JsonScheduler.Priority.BACKGROUND, () -> {
+			for (int i = 0; i < members.size(); i++) {
+				Member member = members.get(i);
+				Resource resource = resources.get(i);
 
-			ResourcesManager.getAssignedGroups(resource.getId(), member.getId(), resourceGroupsEvent);
-		}
+				ResourcesManager.getAssignedGroups(resource.getId(), member.getId(), resourcesScope.events(resourceGroupsEvent));
+			}
+		});
 	}
 }
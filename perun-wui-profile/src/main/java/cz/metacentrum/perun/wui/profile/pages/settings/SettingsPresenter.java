@@ -7,7 +7,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import cz.metacentrum.perun.wui.client.PerunPresenter;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfilePlaceTokens;
@@ -19,7 +19,7 @@ public class SettingsPresenter extends Presenter<SettingsPresenter.MyView, Setti
 	}
 
 	@NameToken(PerunProfilePlaceTokens.SETTINGS)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<SettingsPresenter> {
 
 	}
@@ -14,6 +14,7 @@ import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
 import com.gwtplatform.mvp.client.ViewWithUiHandlers;
 import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
+import cz.metacentrum.perun.wui.client.utils.RegExpCache;
 import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfileTranslation;
 import cz.metacentrum.perun.wui.widgets.PerunButton;
@@ -210,10 +211,10 @@ public class AltPasswordsView extends ViewWithUiHandlers<AltPasswordsUiHandlers>
 
 		// Check that password contains at least 3 of 4 character groups
 
-		RegExp regExpDigit = RegExp.compile("^.*[0-9].*$");
-		RegExp regExpLower = RegExp.compile("^.*[a-z].*$");
-		RegExp regExpUpper = RegExp.compile("^.*[A-Z].*$");
-		RegExp regExpSpec = RegExp.compile("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$");
+		RegExp regExpDigit = RegExpCache.get("^.*[0-9].*$");
+		RegExp regExpLower = RegExpCache.get("^.*[a-z].*$");
+		RegExp regExpUpper = RegExpCache.get("^.*[A-Z].*$");
+		RegExp regExpSpec = RegExpCache.get("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$");
 
 		int matchCounter = 0;
 		if (regExpDigit.exec(password) != null) matchCounter++;
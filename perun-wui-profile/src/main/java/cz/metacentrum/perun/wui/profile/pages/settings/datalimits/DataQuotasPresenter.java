@@ -10,7 +10,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -19,6 +19,8 @@ import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.json.JsonEvents;
+import cz.metacentrum.perun.wui.json.JsonRequestScope;
+import cz.metacentrum.perun.wui.json.JsonScheduler;
 import cz.metacentrum.perun.wui.json.managers.AttributesManager;
 import cz.metacentrum.perun.wui.json.managers.MembersManager;
 import cz.metacentrum.perun.wui.json.managers.RTMessagesManager;
@@ -69,8 +71,14 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
+	// calls loading data of selected VO, cancelled when other VO is selected
+	private JsonRequestScope resourcesScope = new JsonRequestScope();
+	private int selectedVoId;
+	// VO, whose data were not fully loaded when page was hidden
+	private Integer unfinishedVoId;
+
 	@NameToken(PerunProfilePlaceTokens.SETTINGS_DATAQUOTAS)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<DataQuotasPresenter> {
 
 	}
@@ -90,6 +98,21 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 
 	@Override
 	protected void onReveal() {
+		// VOs are loaded only once on bind, so reload only data of VO left unfinished
+		if (unfinishedVoId != null) {
+			int voId = unfinishedVoId;
+			unfinishedVoId = null;
+			loadDataForVo(voId);
+		}
+	}
+
+	@Override
+	protected void onHide() {
+		super.onHide();
+		if (resourcesScope.isPending()) {
+			resourcesScope.cancelAll();
+			unfinishedVoId = selectedVoId;
+		}
 	}
 
 	@Override
@@ -121,7 +144,9 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 		}
 
 		if (PerunSession.getInstance().isSelf(userId)) {
-			MembersManager.getMemberByUser(userId, voId, new JsonEvents() {
+			selectedVoId = voId;
+			resourcesScope.cancelAll();
+			MembersManager.getMemberByUser(userId, voId, resourcesScope.events(new JsonEvents() {
 				@Override
 				public void onFinished(JavaScriptObject result) {
 					Member members = result.cast();
@@ -137,7 +162,7 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 				public void onLoadingStart() {
 					getView().setLoadingData();
 				}
-			});
+			}));
 		}
 	}
 
@@ -146,7 +171,7 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 	 * @param member member
 	 */
 	private void loadResourcesForMember(Member member) {
-		ResourcesManager.getAssignedRichResources(member.getId(), new JsonEvents() {
+		ResourcesManager.getAssignedRichResources(member.getId(), resourcesScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				List<RichResource> resources = JsUtils.jsoAsList(result);
@@ -162,7 +187,7 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 			public void onLoadingStart() {
 				// do nothing
 			}
-		});
+		}));
 	}
 
 	/**
@@ -173,24 +198,26 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 
 		getView().setNumberOfLoadingResources(resources.size());
 
-		for (RichResource resource : resources) {
-			AttributesManager.getRequiredAttributes(resource.getId(), member.getId(), resource.getId(), true, new JsonEvents() {
-				@Override
-				public void onFinished(JavaScriptObject result) {
-					checkWhichAttributesToLoad(resource, JsUtils.jsoAsList(result));
-				}
+		JsonScheduler.withPriority(JsonScheduler.Priority.BACKGROUND, () -> {
+			for (RichResource resource : resources) {
+				AttributesManager.getRequiredAttributes(resource.getId(), member.getId(), resource.getId(), true, resourcesScope.events(new JsonEvents() {
+					@Override
+					public void onFinished(JavaScriptObject result) {
+						checkWhichAttributesToLoad(resource, JsUtils.jsoAsList(result));
+					}
 
-				@Override
-				public void onError(PerunException error) {
-					getView().setError(error, clickEvent -> loadDataForVo(resource.getVoId()));
-				}
+					@Override
+					public void onError(PerunException error) {
+						getView().setError(error, clickEvent -> loadDataForVo(resource.getVoId()));
+					}
 
-				@Override
-				public void onLoadingStart() {
-					// do nothing
-				}
-			});
-		}
+					@Override
+					public void onLoadingStart() {
+						// do nothing
+					}
+				}));
+			}
+		});
 	}
 
 	/**
@@ -231,7 +258,7 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 
 		List<Attribute> additionalData = new ArrayList<>();
 
-		AttributesManager.getResourceAttributes(resource.getId(), new JsonEvents() {
+		AttributesManager.getResourceAttributes(resource.getId(), resourcesScope.events(new JsonEvents() {
 			@Override
 			public void onFinished(JavaScriptObject result) {
 				List<Attribute> attributesToShow = new ArrayList<>();
@@ -256,7 +283,7 @@ public class DataQuotasPresenter extends Presenter<DataQuotasPresenter.MyView, D
 			public void onLoadingStart() {
 				// do nothing
 			}
-		});
+		}));
 	}
 
 	private void loadVos(int userId) {
@@ -10,7 +10,7 @@ import com.gwtplatform.mvp.client.HasUiHandlers;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
@@ -40,7 +40,7 @@ public class PreferredGroupNamesPresenter extends Presenter<PreferredGroupNamesP
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
 	@NameToken(PerunProfilePlaceTokens.SETTINGS_PREFERREDGROUPNAMES)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<PreferredGroupNamesPresenter> {
 
 	}
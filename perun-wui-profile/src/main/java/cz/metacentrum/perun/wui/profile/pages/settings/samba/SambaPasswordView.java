@@ -13,6 +13,7 @@ import com.google.gwt.uibinder.client.UiHandler;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
 import com.gwtplatform.mvp.client.ViewWithUiHandlers;
+import cz.metacentrum.perun.wui.client.utils.RegExpCache;
 import cz.metacentrum.perun.wui.json.JsonEvents;
 import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.profile.client.resources.PerunProfileTranslation;
@@ -51,7 +52,7 @@ public class SambaPasswordView extends ViewWithUiHandlers<SambaPasswordUiHandler
 			}
 
 			// limit only to ASCII printable chars
-			RegExp regExp2 = RegExp.compile("^[\\x20-\\x7E]{1,}$");
+			RegExp regExp2 = RegExpCache.get("^[\\x20-\\x7E]{1,}$");
 			if(regExp2.exec(passwordBox.getValue()) == null){
 				formGroup.setValidationState(ValidationState.ERROR);
 				formGroupNote.getElement().setInnerHTML(translation.einfraPasswordFormat());
@@ -60,10 +61,10 @@ public class SambaPasswordView extends ViewWithUiHandlers<SambaPasswordUiHandler
 
 			// Check that password contains at least 3 of 4 character groups
 
-			RegExp regExpDigit = RegExp.compile("^.*[0-9].*$");
-			RegExp regExpLower = RegExp.compile("^.*[a-z].*$");
-			RegExp regExpUpper = RegExp.compile("^.*[A-Z].*$");
-			RegExp regExpSpec = RegExp.compile("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$");
+			RegExp regExpDigit = RegExpCache.get("^.*[0-9].*$");
+			RegExp regExpLower = RegExpCache.get("^.*[a-z].*$");
+			RegExp regExpUpper = RegExpCache.get("^.*[A-Z].*$");
+			RegExp regExpSpec = RegExpCache.get("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$");
 
 			int matchCounter = 0;
 			if (regExpDigit.exec(passwordBox.getValue()) != null) matchCounter++;
@@ -20,6 +20,7 @@ import com.gwtplatform.mvp.client.ViewImpl;
 import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
 import cz.metacentrum.perun.wui.client.utils.JsUtils;
+import cz.metacentrum.perun.wui.client.utils.RegExpCache;
 import cz.metacentrum.perun.wui.json.ErrorTranslator;
 import cz.metacentrum.perun.wui.json.JsonEvents;
 import cz.metacentrum.perun.wui.json.managers.AttributesManager;
@@ -518,7 +519,7 @@ public class PwdResetView extends ViewImpl implements PwdResetPresenter.MyView {
 		if (Objects.equals(namespace, "einfra")) {
 
 			// limit only to ASCII printable chars
-			RegExp regExp2 = RegExp.compile("^[\\x20-\\x7E]{1,}$");
+			RegExp regExp2 = RegExpCache.get("^[\\x20-\\x7E]{1,}$");
 			if(regExp2.exec(passwordTextBox.getValue()) == null){
 				itemStatus.setHTML(translation.einfraPasswordFormat());
 				passItem.setValidationState(ValidationState.ERROR);
@@ -527,10 +528,10 @@ public class PwdResetView extends ViewImpl implements PwdResetPresenter.MyView {
 
 			// Check that password contains at least 3 of 4 character groups
 
-			RegExp regExpDigit = RegExp.compile("^.*[0-9].*$");
-			RegExp regExpLower = RegExp.compile("^.*[a-z].*$");
-			RegExp regExpUpper = RegExp.compile("^.*[A-Z].*$");
-			RegExp regExpSpec = RegExp.compile("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$"); // FIXME - are those correct printable specific chars?
+			RegExp regExpDigit = RegExpCache.get("^.*[0-9].*$");
+			RegExp regExpLower = RegExpCache.get("^.*[a-z].*$");
+			RegExp regExpUpper = RegExpCache.get("^.*[A-Z].*$");
+			RegExp regExpSpec = RegExpCache.get("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$"); // FIXME - are those correct printable specific chars?
 
 			int matchCounter = 0;
 			if (regExpDigit.exec(passwordTextBox.getValue()) != null) matchCounter++;
@@ -581,7 +582,7 @@ public class PwdResetView extends ViewImpl implements PwdResetPresenter.MyView {
 			int counter = 0;
 			List<String> regexes = Arrays.asList("^(.*[0-9].*)$","^.*[a-z].*$","^.*[A-Z].*$","^.*([!#%&()\\]\\[*+,./:;<=>?@^_`{|}~-]).*$");
 			for (String regex : regexes) {
-				RegExp regExp = RegExp.compile(regex);
+				RegExp regExp = RegExpCache.get(regex);
 				MatchResult matcher = regExp.exec(passwordTextBox.getValue());
 				if (matcher != null) counter=counter+1;
 			}
@@ -605,7 +606,7 @@ public class PwdResetView extends ViewImpl implements PwdResetPresenter.MyView {
 			}
 
 			// limit only to ASCII
-			RegExp regExp2 = RegExp.compile("^[\\x20-\\x7E]{8,}$");
+			RegExp regExp2 = RegExpCache.get("^[\\x20-\\x7E]{8,}$");
 			MatchResult matcher2 = regExp2.exec(passwordTextBox.getValue());
 			boolean matchFound2 = (matcher2 != null);
 			if(!matchFound2){
@@ -618,10 +619,10 @@ public class PwdResetView extends ViewImpl implements PwdResetPresenter.MyView {
 
 			// Check that password contains at least 3 of 4 character groups
 
-			RegExp regExpDigit = RegExp.compile("^.*[0-9].*$");
-			RegExp regExpLower = RegExp.compile("^.*[a-z].*$");
-			RegExp regExpUpper = RegExp.compile("^.*[A-Z].*$");
-			RegExp regExpSpec = RegExp.compile("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$"); // FIXME - are those correct printable specific chars?
+			RegExp regExpDigit = RegExpCache.get("^.*[0-9].*$");
+			RegExp regExpLower = RegExpCache.get("^.*[a-z].*$");
+			RegExp regExpUpper = RegExpCache.get("^.*[A-Z].*$");
+			RegExp regExpSpec = RegExpCache.get("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$"); // FIXME - are those correct printable specific chars?
 
 			int matchCounter = 0;
 			if (regExpDigit.exec(passwordTextBox.getValue()) != null) matchCounter++;
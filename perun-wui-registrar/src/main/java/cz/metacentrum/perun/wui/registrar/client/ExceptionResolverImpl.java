@@ -17,7 +17,7 @@ import cz.metacentrum.perun.wui.model.beans.User;
 import cz.metacentrum.perun.wui.model.beans.Vo;
 import cz.metacentrum.perun.wui.registrar.client.resources.PerunRegistrarTranslation;
 
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -103,7 +103,7 @@ public class ExceptionResolverImpl implements ExceptionResolver {
 				"DuplicateExtensionAttemptException".equalsIgnoreCase(exception.getName())) {
 
 			application = exception.getApplication();
-			ArrayList<ApplicationFormItemData> applicationData = exception.getApplicationData();
+			List<ApplicationFormItemData> applicationData = exception.getApplicationData();
 
 			String text = "<p><br/><b>"+trans.submittedOn()+":</b>&nbsp;" + application.getCreatedAt().split("\\.")[0] +
 					"<br/><b>"+trans.state()+":</b>&nbsp;" + application.getTranslatedState();
@@ -15,6 +15,7 @@ import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.ProxyStandard;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.client.proxy.Proxy;
+import cz.metacentrum.perun.wui.client.PerunPrefetcher;
 import cz.metacentrum.perun.wui.client.PerunPresenter;
 import cz.metacentrum.perun.wui.client.resources.PerunConfiguration;
 import cz.metacentrum.perun.wui.client.resources.PerunSession;
@@ -27,6 +28,9 @@ import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.model.beans.Attribute;
 import cz.metacentrum.perun.wui.registrar.client.resources.PerunRegistrarPlaceTokens;
 import cz.metacentrum.perun.wui.registrar.client.resources.PerunRegistrarTranslation;
+import cz.metacentrum.perun.wui.registrar.pages.AppDetailPresenter;
+import cz.metacentrum.perun.wui.registrar.pages.AppsPresenter;
+import cz.metacentrum.perun.wui.registrar.pages.FormPresenter;
 import cz.metacentrum.perun.wui.widgets.PerunLoader;
 import org.gwtbootstrap3.client.ui.Alert;
 import org.gwtbootstrap3.client.ui.Modal;
@@ -65,13 +69,28 @@ public class PerunRegistrarPresenter extends PerunPresenter<PerunRegistrarPresen
 
 		void setActiveMenuItem(String anchor);
 
+		/**
+		 * Apply branding from current configuration.
+		 */
+		void applyConfiguration();
+
 	}
 
 	private PlaceManager placeManager = PerunSession.getPlaceManager();
 
 	@Inject
-	PerunRegistrarPresenter(EventBus eventBus, MyView view, MyProxy proxy) {
+	PerunRegistrarPresenter(EventBus eventBus, MyView view, MyProxy proxy, FormPresenter.MyProxy form,
+	                        AppsPresenter.MyProxy apps, AppDetailPresenter.MyProxy appDetail) {
 		super(eventBus, view, proxy);
+		// configuration revalidated after page was revealed might differ
+		PerunConfiguration.addChangeHandler(new PerunConfiguration.ChangeHandler() {
+			@Override
+			public void onConfigurationChanged() {
+				getView().applyConfiguration();
+			}
+		});
+		// form is the most common path, other pages are loaded after it
+		PerunPrefetcher.register(eventBus, form, apps, appDetail);
 	}
 
 	@Override
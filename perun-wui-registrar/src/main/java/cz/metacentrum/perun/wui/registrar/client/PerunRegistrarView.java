@@ -144,19 +144,7 @@ public class PerunRegistrarView extends ViewImpl implements PerunRegistrarPresen
 
 		initWidget(binder.createAndBindUi(this));
 
-		// set Title from property if any
-		if (PerunConfiguration.getBrandRegistrarTitle() != null) {
-			brand.setText(PerunConfiguration.getBrandRegistrarTitle());
-		} else {
-			brand.setText(translation.registrarAppName());
-		}
-
-		// put logo
-		Image logo = PerunConfiguration.getBrandLogo();
-		logo.setWidth("auto");
-		logo.setHeight("50px");
-		//logo.setPull(Pull.LEFT);
-		logoWrapper.add(logo);
+		applyConfiguration();
 
 		if (!PerunConfiguration.isLangSwitchingDisabled()) {
 			UiUtils.addLanguageSwitcher(topMenu);
@@ -174,6 +162,26 @@ public class PerunRegistrarView extends ViewImpl implements PerunRegistrarPresen
 
 	}
 
+	@Override
+	public void applyConfiguration() {
+
+		// set Title from property if any
+		if (PerunConfiguration.getBrandRegistrarTitle() != null) {
+			brand.setText(PerunConfiguration.getBrandRegistrarTitle());
+		} else {
+			brand.setText(translation.registrarAppName());
+		}
+
+		// put logo
+		logoWrapper.clear();
+		Image logo = PerunConfiguration.getBrandLogo();
+		logo.setWidth("auto");
+		logo.setHeight("50px");
+		//logo.setPull(Pull.LEFT);
+		logoWrapper.add(logo);
+
+	}
+
 	@Override
 	public void setActiveMenuItem(String anchor) {
 
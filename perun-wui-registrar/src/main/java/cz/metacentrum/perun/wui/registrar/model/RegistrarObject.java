@@ -6,7 +6,7 @@ import cz.metacentrum.perun.wui.client.utils.JsUtils;
 import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.model.beans.*;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Main Registrar object containing all necessary data to resolve
@@ -35,8 +35,8 @@ public class RegistrarObject extends JavaScriptObject {
 	 *
 	 * @return VO attributes
 	 */
-	public final ArrayList<Attribute> getVoAttributes() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "voAttributes"));
+	public final List<Attribute> getVoAttributes() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "voAttributes"));
 	}
 
 	/**
@@ -92,8 +92,8 @@ public class RegistrarObject extends JavaScriptObject {
 	 *
 	 * @return VOs initial form
 	 */
-	public final ArrayList<ApplicationFormItemData> getVoFormInitial() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "voFormInitial"));
+	public final List<ApplicationFormItemData> getVoFormInitial() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "voFormInitial"));
 	}
 
 	/**
@@ -113,8 +113,8 @@ public class RegistrarObject extends JavaScriptObject {
 	 *
 	 * @return VOs extension form
 	 */
-	public final ArrayList<ApplicationFormItemData> getVoFormExtension() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "voFormExtension"));
+	public final List<ApplicationFormItemData> getVoFormExtension() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "voFormExtension"));
 	}
 
 	/**
@@ -134,8 +134,8 @@ public class RegistrarObject extends JavaScriptObject {
 	 *
 	 * @return groups initial form
 	 */
-	public final ArrayList<ApplicationFormItemData> getGroupFormInitial() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "groupFormInitial"));
+	public final List<ApplicationFormItemData> getGroupFormInitial() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "groupFormInitial"));
 	}
 
 	/**
@@ -155,8 +155,8 @@ public class RegistrarObject extends JavaScriptObject {
 	 *
 	 * @return groups extension form
 	 */
-	public final ArrayList<ApplicationFormItemData> getGroupFormExtension() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "groupFormExtension"));
+	public final List<ApplicationFormItemData> getGroupFormExtension() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "groupFormExtension"));
 	}
 
 	/**
@@ -190,8 +190,8 @@ public class RegistrarObject extends JavaScriptObject {
 	 *
 	 * @return List of similar identities
 	 */
-	public final ArrayList<Identity> getSimilarUsers() {
-		return JsUtils.jsoAsList(JsUtils.getNativePropertyArray(this, "similarUsers"));
+	public final List<Identity> getSimilarUsers() {
+		return JsUtils.jsoAsListView(JsUtils.getNativePropertyArray(this, "similarUsers"));
 	}
 
 	/**
@@ -199,7 +199,7 @@ public class RegistrarObject extends JavaScriptObject {
 	 *
 	 * @param form form to be set
 	 */
-	public final void setGroupFormInitial(ArrayList<ApplicationFormItemData> form) {
+	public final void setGroupFormInitial(List<ApplicationFormItemData> form) {
 
 		JsArray<ApplicationFormItemData> arr = JavaScriptObject.createArray().cast();
 		if (form != null) {
@@ -5,7 +5,7 @@ import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.Presenter;
 import com.gwtplatform.mvp.client.View;
 import com.gwtplatform.mvp.client.annotations.NameToken;
-import com.gwtplatform.mvp.client.annotations.ProxyStandard;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import cz.metacentrum.perun.wui.client.PerunPresenter;
 import cz.metacentrum.perun.wui.registrar.client.resources.PerunRegistrarPlaceTokens;
@@ -21,7 +21,7 @@ public class AppsPresenter extends Presenter<AppsPresenter.MyView, AppsPresenter
 	}
 
 	@NameToken(PerunRegistrarPlaceTokens.MY_APPS)
-	@ProxyStandard
+	@ProxyCodeSplit
 	public interface MyProxy extends ProxyPlace<AppsPresenter> {
 	}
 
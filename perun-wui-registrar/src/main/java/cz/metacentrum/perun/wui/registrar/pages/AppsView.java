@@ -66,7 +66,7 @@ public class AppsView extends ViewImpl implements AppsPresenter.MyView {
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
-				grid.setList(JsUtils.<Application>jsoAsList(jso));
+				grid.setList(JsUtils.<Application>jsoAsListView(jso));
 			}
 
 			@Override
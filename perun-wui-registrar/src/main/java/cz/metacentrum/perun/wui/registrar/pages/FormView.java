@@ -197,7 +197,7 @@ public class FormView extends ViewImpl implements FormPresenter.MyView {
 					group = registrar.getGroup();
 				}
 
-				ArrayList<Attribute> attrList = registrar.getVoAttributes();
+				List<Attribute> attrList = registrar.getVoAttributes();
 				for (Attribute a : attrList) {
 					if (a.getFriendlyName().equals("voLogoURL")) {
 						if (a.getValue() != null) {
@@ -517,7 +517,7 @@ public class FormView extends ViewImpl implements FormPresenter.MyView {
 			HashMap<AnchorListItem,ClickHandler> idpItems = new HashMap<>();
 			HashMap<AnchorListItem,ClickHandler> othersItems = new HashMap<>();
 
-			ArrayList<ExtSource> sources = identity.getExternalIdentities();
+			List<ExtSource> sources = new ArrayList<>(identity.getExternalIdentities());
 			Collections.sort(sources, new Comparator<ExtSource>() {
 				@Override
 				public int compare(ExtSource o1, ExtSource o2) {
@@ -398,86 +398,126 @@ public class PerunForm extends FieldSet {
 	/**
 	 * Validate all PerunFormItems and return true (in callback.onFinished() method) if all of them are valid.
 	 *
+	 * All items are validated locally first. Only when all of them are valid, items validated
+	 * remotely (e.g. login availability) are checked by Perun RPC. Their calls are made at once,
+	 * so they can be batched. First invalid item (in order of the form) is focused.
+	 *
 	 * @param items
 	 * @param events callback events
 	 */
 	private void validateAll(final List<PerunFormItem> items, final Events<Boolean> events) {
 
+		events.onLoadingStart();
+
 		if (items.size() == 0) {
-			events.onLoadingStart();
 			events.onFinished(true);
 			return;
 		}
 
-		final int startCount = items.size();
-		final int[] currentCount = {0};
-		final boolean[] valid = {true};
-		final boolean[] firstLoop = {true};
-
-		for (final PerunFormItem item : items) {
+		if (FormState.PREFILLED.equals(formState) && PerunSession.getInstance().getUser() == null) {
+			// for anonymous users
+			for (PerunFormItem item : items) {
+				checkSimilarUsersChange(item);
+			}
+		}
 
-			if (FormState.PREFILLED.equals(formState)) {
+		// validate all items locally
+		PerunFormItem invalid = null;
+		final List<PerunFormItem> remoteItems = new ArrayList<>();
+		for (PerunFormItem item : items) {
+			if (!item.validateLocal()) {
+				if (invalid == null) invalid = item;
+			} else if (item.isValidatedRemotely()) {
+				remoteItems.add(item);
+			}
+		}
 
-				// for anonymous users
-				if (PerunSession.getInstance().getUser() == null) {
+		if (invalid != null) {
+			focusInvalid(invalid);
+			events.onFinished(false);
+			return;
+		}
 
-					String prefilledValue = item.getItemData().getPrefilledValue();
+		if (remoteItems.isEmpty()) {
+			events.onFinished(true);
+			return;
+		}
 
-					if (Objects.equals(item.getItemData().getFormItem().getType(), ApplicationFormItem.ApplicationFormItemType.VALIDATED_EMAIL)) {
-						if (prefilledValue == null || !prefilledValue.contains(item.getValue())) {
-							// mail changed - re-check existing users
-							checkSimilarUsersAgain = true;
-						}
-					} else if (Objects.equals(item.getItemData().getFormItem().getPerunDestinationAttribute(), "urn:perun:user:attribute-def:core:displayName")) {
-						if (!Objects.equals(prefilledValue, item.getValue())) {
-							// name changed - re-check existing users
-							checkSimilarUsersAgain = true;
-						}
-					}
+		// validate remotely only items valid locally
+		final boolean[] results = new boolean[remoteItems.size()];
+		final int[] finished = {0};
 
-				}
-			}
+		for (int i=0; i<remoteItems.size(); i++) {
 
-			item.validate(new Events<Boolean>() {
+			final int index = i;
+			remoteItems.get(i).validate(new Events<Boolean>() {
 				@Override
 				public void onFinished(Boolean result) {
-					if (!result) {
-						nonvalid();
-					}
+					results[index] = result;
 					increment();
 				}
 
 				@Override
 				public void onError(PerunException error) {
-					nonvalid();
+					results[index] = false;
 					increment();
 				}
 
 				@Override
 				public void onLoadingStart() {
-					if (firstLoop[0]) {
-						events.onLoadingStart();
-						firstLoop[0] = false;
-					}
 				}
 
 				private void increment() {
-					currentCount[0]++;
-					if (currentCount[0] >= startCount) {
-						events.onFinished(valid[0]);
-					}
-				}
-
-				private void nonvalid() {
-					if (valid[0]) {
-						int top = item.getAbsoluteTop();
-						Window.scrollTo(0, (top - 85 >= 0) ? top - 85 : 0);
-						item.focus();
-						valid[0] = false;
+					finished[0]++;
+					if (finished[0] < remoteItems.size()) return;
+					// results are evaluated in order of the form, not in order of responses
+					for (int j=0; j<results.length; j++) {
+						if (!results[j]) {
+							focusInvalid(remoteItems.get(j));
+							events.onFinished(false);
+							return;
+						}
 					}
+					events.onFinished(true);
 				}
 			});
+
 		}
+
+	}
+
+	/**
+	 * Check if value of item, which is used to find similar users, was changed from prefilled value.
+	 *
+	 * @param item form item
+	 */
+	private void checkSimilarUsersChange(PerunFormItem item) {
+
+		String prefilledValue = item.getItemData().getPrefilledValue();
+
+		if (Objects.equals(item.getItemData().getFormItem().getType(), ApplicationFormItem.ApplicationFormItemType.VALIDATED_EMAIL)) {
+			if (prefilledValue == null || !prefilledValue.contains(item.getValue())) {
+				// mail changed - re-check existing users
+				checkSimilarUsersAgain = true;
+			}
+		} else if (Objects.equals(item.getItemData().getFormItem().getPerunDestinationAttribute(), "urn:perun:user:attribute-def:core:displayName")) {
+			if (!Objects.equals(prefilledValue, item.getValue())) {
+				// name changed - re-check existing users
+				checkSimilarUsersAgain = true;
+			}
+		}
+
+	}
+
+	/**
+	 * Scroll to invalid item and focus it.
+	 *
+	 * @param item invalid form item
+	 */
+	private void focusInvalid(PerunFormItem item) {
+		int top = item.getAbsoluteTop();
+		Window.scrollTo(0, (top - 85 >= 0) ? top - 85 : 0);
+		item.focus();
 	}
 
 
@@ -102,6 +102,16 @@ public abstract class PerunFormItem extends FormGroup {
 	 */
 	public abstract void validate(Events<Boolean> events);
 
+	/**
+	 * Return true if {@link #validate(Events)} checks value remotely (by Perun RPC),
+	 * so result of {@link #validateLocal()} is not final.
+	 *
+	 * @return true if item is validated remotely
+	 */
+	public boolean isValidatedRemotely() {
+		return false;
+	}
+
 	/**
 	 * @return result of last validation.
 	 */
@@ -92,6 +92,11 @@ public class Username extends PerunFormItemEditable {
 		}
 	}
 
+	@Override
+	public boolean isValidatedRemotely() {
+		return !isOnlyPreview() && getTextBox().isEnabled();
+	}
+
 	@Override
 	public boolean validateLocal() {
 		if (!isOnlyPreview() && getTextBox().isEnabled()) {
@@ -1,6 +1,7 @@
 package cz.metacentrum.perun.wui.registrar.widgets.items.validators;
 
 import com.google.gwt.regexp.shared.RegExp;
+import cz.metacentrum.perun.wui.client.utils.RegExpCache;
 import cz.metacentrum.perun.wui.registrar.widgets.items.Password;
 import cz.metacentrum.perun.wui.registrar.widgets.items.PerunFormItem;
 import cz.metacentrum.perun.wui.registrar.widgets.items.Username;
@@ -28,7 +29,7 @@ public class EinfraPasswordValidator extends PasswordValidator {
 		}
 
 		// limit only to ASCII printable chars
-		RegExp regExp2 = RegExp.compile("^[\\x20-\\x7E]{1,}$");
+		RegExp regExp2 = RegExpCache.get("^[\\x20-\\x7E]{1,}$");
 		if(regExp2.exec(password.getValue()) == null){
 			setResult(Result.INVALID_FORMAT);
 			password.setRawStatus(getTransl().einfraPasswordFormat(), ValidationState.ERROR);
@@ -37,10 +38,10 @@ public class EinfraPasswordValidator extends PasswordValidator {
 
 		// Check that password contains at least 3 of 4 character groups
 
-		RegExp regExpDigit = RegExp.compile("^.*[0-9].*$");
-		RegExp regExpLower = RegExp.compile("^.*[a-z].*$");
-		RegExp regExpUpper = RegExp.compile("^.*[A-Z].*$");
-		RegExp regExpSpec = RegExp.compile("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$"); // FIXME - are those correct printable specific chars?
+		RegExp regExpDigit = RegExpCache.get("^.*[0-9].*$");
+		RegExp regExpLower = RegExpCache.get("^.*[a-z].*$");
+		RegExp regExpUpper = RegExpCache.get("^.*[A-Z].*$");
+		RegExp regExpSpec = RegExpCache.get("^.*[\\x20-\\x2F\\x3A-\\x40\\x5B-\\x60\\x7B-\\x7E].*$"); // FIXME - are those correct printable specific chars?
 
 		int matchCounter = 0;
 		if (regExpDigit.exec(password.getValue()) != null) matchCounter++;
@@ -1,6 +1,7 @@
 package cz.metacentrum.perun.wui.registrar.widgets.items.validators;
 
 import com.google.gwt.regexp.shared.RegExp;
+import cz.metacentrum.perun.wui.client.utils.RegExpCache;
 import cz.metacentrum.perun.wui.registrar.widgets.items.Password;
 import cz.metacentrum.perun.wui.registrar.widgets.items.PerunFormItem;
 import cz.metacentrum.perun.wui.registrar.widgets.items.Username;
@@ -25,7 +26,7 @@ public class EinfraUsernameValidator extends UsernameValidator {
 		}
 
 		// must start with lower-case char
-		RegExp regExp = RegExp.compile("^([a-z])(.*)$");
+		RegExp regExp = RegExpCache.get("^([a-z])(.*)$");
 		if(regExp.exec(username.getValue()) == null){
 			setResult(Result.INVALID_FORMAT);
 			username.setRawStatus(getTransl().einfraLoginStart(), ValidationState.ERROR);
@@ -33,7 +34,7 @@ public class EinfraUsernameValidator extends UsernameValidator {
 		}
 
 		// must contain only valid chars
-		RegExp regExp2 = RegExp.compile("^[a-z0-9_-]+$");
+		RegExp regExp2 = RegExpCache.get("^[a-z0-9_-]+$");
 		if(regExp2.exec(username.getValue()) == null){
 			setResult(Result.INVALID_FORMAT);
 			username.setRawStatus(getTransl().einfraLoginFormat(), ValidationState.ERROR);
@@ -2,6 +2,7 @@ package cz.metacentrum.perun.wui.registrar.widgets.items.validators;
 
 import com.google.gwt.regexp.shared.MatchResult;
 import com.google.gwt.regexp.shared.RegExp;
+import cz.metacentrum.perun.wui.client.utils.RegExpCache;
 import cz.metacentrum.perun.wui.registrar.widgets.items.Radiobox;
 import org.gwtbootstrap3.client.ui.constants.ValidationState;
 
@@ -23,7 +24,7 @@ public class RadioboxValidator extends PerunFormItemValidatorImpl<Radiobox> {
 
 		if (regex != null && !regex.equals("")) {
 
-			RegExp regExp = RegExp.compile(regex);
+			RegExp regExp = RegExpCache.get(regex);
 			MatchResult matcher = regExp.exec(radiobox.getValue());
 			boolean matchFound = (matcher != null); // equivalent to regExp.test(inputStr);
 			if(!matchFound){
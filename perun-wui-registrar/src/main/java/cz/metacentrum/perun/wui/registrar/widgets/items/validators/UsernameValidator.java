@@ -9,13 +9,27 @@ import cz.metacentrum.perun.wui.model.PerunException;
 import cz.metacentrum.perun.wui.registrar.widgets.items.Username;
 import org.gwtbootstrap3.client.ui.constants.ValidationState;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
+ * Validates format of login and checks its availability in namespace of the item.
+ * Results of availability checks are remembered by validator, and repeated checks
+ * of the same login, e.g. on blur and then on submit, wait for the pending one.
+ *
  * @author Ondrej Velisek <ondrejvelisek@gmail.com>
  */
 public class UsernameValidator extends PerunFormItemValidatorImpl<Username> {
 
 	private static final int PERUN_ATTRIBUTE_LOGIN_NAMESPACE_POSITION = 49;
 
+	// results of checks in namespace of validated item, kept for the lifetime of the form
+	private final Map<String, Boolean> availableLogins = new HashMap<>();
+	// events waiting for result of pending check of login
+	private final Map<String, List<Events<Boolean>>> pendingChecks = new HashMap<>();
+
 	@Override
 	public boolean validateLocal(Username username) {
 
@@ -55,35 +69,62 @@ public class UsernameValidator extends PerunFormItemValidatorImpl<Username> {
 			return;
 		}
 
+		final String login = username.getValue();
+
+		// login was already checked
+		Boolean checked = availableLogins.get(login);
+		if (checked != null) {
+			setAvailability(username, checked);
+			events.onFinished(checked);
+			return;
+		}
+
+		// login is being checked, wait for its result
+		List<Events<Boolean>> waiting = pendingChecks.get(login);
+		if (waiting != null) {
+			setResult(Result.CHECKING_LOGIN);
+			username.unsetStatus();
+			waiting.add(events);
+			return;
+		}
+
+		waiting = new ArrayList<>();
+		waiting.add(events);
+		pendingChecks.put(login, waiting);
+
 		String loginNamespace = username.getItemData().getFormItem().getPerunDestinationAttribute().substring(PERUN_ATTRIBUTE_LOGIN_NAMESPACE_POSITION);
 
-		UsersManager.isLoginAvailable(loginNamespace, username.getValue(), new JsonEvents() {
+		UsersManager.isLoginAvailable(loginNamespace, login, new JsonEvents() {
 
 			@Override
 			public void onFinished(JavaScriptObject jso) {
 				BasicOverlayObject obj = jso.cast();
 				boolean available = obj.getBoolean();
 
-				if (!available) {
-					setResult(Result.LOGIN_NOT_AVAILABLE);
-					username.setRawStatus(getTransl().loginNotAvailable(), ValidationState.ERROR);
-					events.onFinished(false);
-					return;
+				availableLogins.put(login, available);
+				// don't overwrite status of changed value
+				if (login.equals(username.getValue())) {
+					setAvailability(username, available);
+				}
+				for (Events<Boolean> waitingEvents : pendingChecks.remove(login)) {
+					waitingEvents.onFinished(available);
 				}
-				username.setStatus(ValidationState.SUCCESS);
-				events.onFinished(true);
 			}
 
 			@Override
 			public void onError(PerunException error){
-				if ("InvalidLoginException".equalsIgnoreCase(error.getName())) {
-					setResult(Result.INVALID_FORMAT);
-					username.setStatus(getTransl().loginNotAllowed(), ValidationState.ERROR);
-				} else {
-					setResult(Result.CANT_CHECK_LOGIN);
-					username.setStatus(getTransl().checkingLoginFailed(), ValidationState.ERROR);
+				if (login.equals(username.getValue())) {
+					if ("InvalidLoginException".equalsIgnoreCase(error.getName())) {
+						setResult(Result.INVALID_FORMAT);
+						username.setStatus(getTransl().loginNotAllowed(), ValidationState.ERROR);
+					} else {
+						setResult(Result.CANT_CHECK_LOGIN);
+						username.setStatus(getTransl().checkingLoginFailed(), ValidationState.ERROR);
+					}
+				}
+				for (Events<Boolean> waitingEvents : pendingChecks.remove(login)) {
+					waitingEvents.onFinished(false);
 				}
-				events.onFinished(false);
 			}
 
 			@Override
@@ -95,4 +136,19 @@ public class UsernameValidator extends PerunFormItemValidatorImpl<Username> {
 
 	}
 
+	/**
+	 * Set status of item by availability of its login.
+	 *
+	 * @param username item with login
+	 * @param available TRUE if login is available
+	 */
+	private void setAvailability(Username username, boolean available) {
+		if (!available) {
+			setResult(Result.LOGIN_NOT_AVAILABLE);
+			username.setRawStatus(getTransl().loginNotAvailable(), ValidationState.ERROR);
+			return;
+		}
+		username.setStatus(ValidationState.SUCCESS);
+	}
+
 }